@@ -93,7 +93,10 @@ public class MainApp extends Application {
         try {
             personBookOptional = storage.readAddressBook();
             locationBookOptional = storage.readLocationBook();
-            visitBookOptional = storage.readVisitBook();
+            // The visit book refers to persons and locations by Id, so it is resolved against the books read above.
+            visitBookOptional = personBookOptional.isEmpty() || locationBookOptional.isEmpty()
+                    ? Optional.empty()
+                    : storage.readVisitBook(personBookOptional.get(), locationBookOptional.get());
 
             if (personBookOptional.isEmpty() || locationBookOptional.isEmpty() || visitBookOptional.isEmpty()) {
                 logger.info("Data file not found. Will be starting with "
@@ -12,6 +12,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_LOCATION_INDEX = "The location index provided is out of range!";
     public static final String MESSAGE_INVALID_VISIT_INDEX = "The visit index provided is out of range!";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_LOCATIONS_LISTED_OVERVIEW = "%1$d locations listed!";
     public static final String MESSAGE_INVALID_PERSON_ID = "The person ID provided cannot be found!";
     public static final String MESSAGE_INVALID_LOCATION_ID = "The location ID provided cannot be found!";
     public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path. Please enter the "
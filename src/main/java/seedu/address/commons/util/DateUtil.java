@@ -0,0 +1,18 @@
+package seedu.address.commons.util;
+
+import java.time.LocalDate;
+
+/**
+ * Helper functions for handling dates.
+ */
+public class DateUtil {
+
+    private static final Interner<LocalDate> DATE_INTERNER = new Interner<>();
+
+    /**
+     * Returns the canonical instance of {@code date}, so that records on the same day share one {@code LocalDate}.
+     */
+    public static LocalDate intern(LocalDate date) {
+        return DATE_INTERNER.intern(date);
+    }
+}
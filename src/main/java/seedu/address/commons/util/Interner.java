@@ -0,0 +1,32 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values can share one instance.
+ * Values are held weakly, so a canonical instance is dropped from the pool once nothing else refers to it.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} canonical if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonicalValue = reference == null ? null : reference.get();
+        if (canonicalValue == null) {
+            pool.put(value, new WeakReference<>(value));
+            canonicalValue = value;
+        }
+        return canonicalValue;
+    }
+}
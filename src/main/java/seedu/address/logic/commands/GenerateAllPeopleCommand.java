@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ContactTracer;
+import seedu.address.model.Model;
+import seedu.address.model.ModelPredicate;
+import seedu.address.model.attribute.Id;
+
+/**
+ * Lists all people who have been in contact with any infected person in their exposure window.
+ * The contacts of every infected person are traced together, in parallel.
+ */
+public class GenerateAllPeopleCommand extends Command {
+
+    public static final String COMMAND_WORD = "generateAllPeople";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all people who have been in contact with any"
+            + " infected person in their exposure window and displays them as a list of people.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_INFECTED_PEOPLE = "There are no infected people";
+    public static final String MESSAGE_NO_PEOPLE_FOUND = "There were no people in contact with any infected person"
+            + " in their exposure window";
+    public static final String MESSAGE_SUCCESS = "Generated people for all %1$d infected people: %2$d people found\n"
+            + "Most exposed: %3$s (%4$d exposures)";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Id> infectedPersonIds = model.getPersonBook().getInfectedPersonIds();
+        if (infectedPersonIds.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_INFECTED_PEOPLE);
+        }
+
+        Map<Id, LocalDate> infectionDates = new HashMap<>();
+        for (Id infectedPersonId : infectedPersonIds) {
+            infectionDates.put(infectedPersonId,
+                    model.getPersonById(infectedPersonId).getInfectionStatus().getInfectionDate().get());
+        }
+        Map<Id, Integer> exposureCounts = new ContactTracer(model.getVisitBook())
+                .getExposureCounts(infectionDates, model.getUserPrefs().getExposureWindow(), LocalDate.now());
+        if (exposureCounts.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PEOPLE_FOUND);
+        }
+
+        Map.Entry<Id, Integer> mostExposed = null;
+        for (Map.Entry<Id, Integer> exposureCount : exposureCounts.entrySet()) {
+            if (mostExposed == null || exposureCount.getValue() > mostExposed.getValue()) {
+                mostExposed = exposureCount;
+            }
+        }
+        assert mostExposed != null;
+        model.updateFilteredPersonList(ModelPredicate.getPredicateShowPeopleById(exposureCounts.keySet()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, infectedPersonIds.size(), exposureCounts.size(),
+                model.getPersonById(mostExposed.getKey()).getName(), mostExposed.getValue()));
+    }
+}
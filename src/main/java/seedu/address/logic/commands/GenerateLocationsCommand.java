@@ -3,16 +3,18 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_ID;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ReadOnlyIndexIdPair;
+import seedu.address.model.ExposureWindow;
 import seedu.address.model.InfoHandler;
 import seedu.address.model.Model;
 import seedu.address.model.ModelPredicate;
 import seedu.address.model.attribute.Id;
 import seedu.address.model.person.Person;
-import seedu.address.model.visit.VisitBook;
+import seedu.address.model.visit.Visit;
 
 /**
  * Finds and lists all persons in visit book whose name contains any of the argument keywords.
@@ -31,7 +33,7 @@ public class GenerateLocationsCommand extends Command {
             + PREFIX_PERSON_ID + "S123A";
 
     public static final String MESSAGE_PERSON_HAS_NO_VISITS = "This person is not associated with any visits"
-            + " in the past 2 weeks";
+            + " in their exposure window";
     public static final String MESSAGE_PERSON_IS_NOT_INFECTED = "This person is not infected";
 
     private final ReadOnlyIndexIdPair pair;
@@ -47,18 +49,20 @@ public class GenerateLocationsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        InfoHandler infoHandler = new InfoHandler(model);
         Person infectedPerson = pair.getPersonFromPair(model);
 
         if (!infectedPerson.isInfected()) {
             throw new CommandException(MESSAGE_PERSON_IS_NOT_INFECTED);
         }
         Id personIdFromBook = infectedPerson.getId();
-        VisitBook visitsByPerson = infoHandler.generateVisitsByPerson(personIdFromBook);
-        if (visitsByPerson.getVisitList().isEmpty()) {
+        ExposureWindow exposureWindow = model.getUserPrefs().getExposureWindow();
+        LocalDate infectionDate = infectedPerson.getInfectionStatus().getInfectionDate().get();
+        List<Visit> visitsByPerson = model.getVisitBook().getVisitsByPersonIdBetween(personIdFromBook,
+                exposureWindow.getStartDate(infectionDate), exposureWindow.getEndDate(infectionDate, LocalDate.now()));
+        if (visitsByPerson.isEmpty()) {
             throw new CommandException(MESSAGE_PERSON_HAS_NO_VISITS);
         }
-        List<Id> locationIds = infoHandler.generateLocationIdsByVisitBook(visitsByPerson);
+        List<Id> locationIds = InfoHandler.generateLocationIdsByVisits(visitsByPerson);
         model.updateFilteredLocationList(ModelPredicate.getPredicateShowLocationsById(locationIds));
         return new CommandResult(
                 "Generated locations for: " + infectedPerson.getName());
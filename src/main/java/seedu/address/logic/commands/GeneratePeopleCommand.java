@@ -1,22 +1,28 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEGREE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_ID;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ReadOnlyIndexIdPair;
-import seedu.address.model.InfoHandler;
+import seedu.address.model.ContactTracer;
+import seedu.address.model.ExposureWindow;
 import seedu.address.model.Model;
 import seedu.address.model.ModelPredicate;
 import seedu.address.model.attribute.Id;
 import seedu.address.model.person.Person;
-import seedu.address.model.visit.VisitBook;
+import seedu.address.model.visit.Visit;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Lists the people who have been in contact with an infected person during their exposure window.
+ * With the {@code deg/} prefix, contacts of contacts are also listed, up to the given degree of contact.
  */
 public class GeneratePeopleCommand extends Command {
 
@@ -24,53 +30,88 @@ public class GeneratePeopleCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all people which a person of the specified"
             + "Id (case-insensitive) or index have been in contact with and displays them as a list of people.\n"
+            + "Contacts of contacts are also found, up to the given degree of contact (default 1).\n"
             + "Parameters: PERSON_INDEX or "
-            + PREFIX_PERSON_ID + "PERSON_ID\n"
+            + PREFIX_PERSON_ID + "PERSON_ID "
+            + "[" + PREFIX_DEGREE + "DEGREE]\n"
             + "Example: " + COMMAND_WORD + " 1\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_PERSON_ID + "S123A";
+            + PREFIX_PERSON_ID + "S123A "
+            + PREFIX_DEGREE + "3";
+
+    public static final int DEFAULT_DEGREE = 1;
+    public static final int MAX_DEGREE = 5;
 
     public static final String MESSAGE_NO_PEOPLE_FOUND = "There were no people in contact with the given person"
-            + " in the past 2 weeks";
+            + " in their exposure window";
     public static final String MESSAGE_PERSON_HAS_NO_VISITS = "This person is not associated with any visits"
-            + " in the past 2 weeks";
+            + " in their exposure window";
     public static final String MESSAGE_PERSON_IS_NOT_INFECTED = "This person is not infected";
+    public static final String MESSAGE_SUCCESS = "Generated people for: %1$s";
+    public static final String MESSAGE_SUCCESS_WITH_DEGREES = "Generated people within %1$d degrees of contact for: "
+            + "%2$s\nPeople found at each degree: %3$s";
 
     private final ReadOnlyIndexIdPair pair;
+    private final int degree;
 
     public GeneratePeopleCommand(ReadOnlyIndexIdPair pair) {
+        this(pair, DEFAULT_DEGREE);
+    }
+
+    /**
+     * Creates a GeneratePeopleCommand that finds the people within {@code degree} degrees of contact of the
+     * person identified by {@code pair}.
+     */
+    public GeneratePeopleCommand(ReadOnlyIndexIdPair pair, int degree) {
+        assert degree > 0 && degree <= MAX_DEGREE;
         this.pair = pair;
+        this.degree = degree;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        InfoHandler infoHandler = new InfoHandler(model);
         Person infectedPerson = pair.getPersonFromPair(model);
 
         if (!infectedPerson.isInfected()) {
             throw new CommandException(MESSAGE_PERSON_IS_NOT_INFECTED);
         }
         Id personIdFromBook = infectedPerson.getId();
-        VisitBook visitsByPerson = infoHandler.generateVisitsByPerson(personIdFromBook);
-        if (visitsByPerson.getVisitList().isEmpty()) {
+        ContactTracer contactTracer = new ContactTracer(model.getVisitBook());
+        ExposureWindow exposureWindow = model.getUserPrefs().getExposureWindow();
+        LocalDate infectionDate = infectedPerson.getInfectionStatus().getInfectionDate().get();
+        LocalDate startDate = exposureWindow.getStartDate(infectionDate);
+        LocalDate endDate = exposureWindow.getEndDate(infectionDate, LocalDate.now());
+        List<Visit> visitsByPerson = contactTracer.getVisitsByPersonBetween(personIdFromBook, startDate, endDate);
+        if (visitsByPerson.isEmpty()) {
             throw new CommandException(MESSAGE_PERSON_HAS_NO_VISITS);
         }
-        VisitBook affectedVisits = infoHandler.generateOtherVisitsThatHappenedOnSameDay(visitsByPerson);
-        List<Id> personIds = infoHandler.generatePersonIdsByVisitBook(affectedVisits, personIdFromBook);
+        // First-degree contacts are read directly from the contact graph.
+        List<Set<Id>> personIdsByDegree = degree == DEFAULT_DEGREE
+                ? List.of(model.getContactGraph().getContactIdsBetween(personIdFromBook, startDate, endDate))
+                : contactTracer.getContactIdsByDegree(personIdFromBook, startDate, endDate, degree);
+        Set<Id> personIds = new HashSet<>();
+        List<Integer> numberOfPeopleByDegree = new ArrayList<>();
+        for (Set<Id> personIdsAtDegree : personIdsByDegree) {
+            personIds.addAll(personIdsAtDegree);
+            numberOfPeopleByDegree.add(personIdsAtDegree.size());
+        }
         if (personIds.isEmpty()) {
             throw new CommandException(MESSAGE_NO_PEOPLE_FOUND);
         }
-        assert !personIds.isEmpty();
         model.updateFilteredPersonList(ModelPredicate.getPredicateShowPeopleById(personIds));
-        return new CommandResult(
-                "Generated people for: " + infectedPerson.getName());
+        if (degree == DEFAULT_DEGREE) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, infectedPerson.getName()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_DEGREES, degree, infectedPerson.getName(),
+                numberOfPeopleByDegree));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof GeneratePeopleCommand // instanceof handles nulls
-                && pair.equals(((GeneratePeopleCommand) other).pair)); // state check
+                && pair.equals(((GeneratePeopleCommand) other).pair) // state check
+                && degree == ((GeneratePeopleCommand) other).degree);
     }
 }
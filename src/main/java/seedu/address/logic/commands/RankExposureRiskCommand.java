@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ExposureRiskScorer;
+import seedu.address.model.Model;
+import seedu.address.model.ModelPredicate;
+import seedu.address.model.attribute.Id;
+
+/**
+ * Lists the people most at risk of having been exposed to an infected person, ranked by their exposure risk score.
+ * The scores are pushed from the visits of the infected people to the people who shared them, in parallel.
+ */
+public class RankExposureRiskCommand extends Command {
+
+    public static final String COMMAND_WORD = "rankExposureRisk";
+
+    public static final int DEFAULT_NUMBER_OF_PEOPLE = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Scores the exposure risk of every person who is not"
+            + " infected and displays the people most at risk as a list of people.\n"
+            + "The score counts the visits a person shared with infected people in their exposure window, weighted by"
+            + " how recent the visits were and how many infected visits their locations had.\n"
+            + "Parameters: [NUMBER_OF_PEOPLE] (default " + DEFAULT_NUMBER_OF_PEOPLE + ")\n"
+            + "Example: " + COMMAND_WORD + " 5";
+
+    public static final String MESSAGE_NO_INFECTED_PEOPLE = "There are no infected people";
+    public static final String MESSAGE_NO_PEOPLE_AT_RISK = "There were no people in contact with any infected person"
+            + " in their exposure window";
+    public static final String MESSAGE_SUCCESS = "Ranked the %1$d people most at risk of exposure:\n%2$s";
+    public static final String MESSAGE_RANK = "%1$d. %2$s (risk score %3$.2f)";
+
+    private final int numberOfPeople;
+
+    public RankExposureRiskCommand() {
+        this(DEFAULT_NUMBER_OF_PEOPLE);
+    }
+
+    /**
+     * Creates a RankExposureRiskCommand to list the {@code numberOfPeople} people most at risk.
+     */
+    public RankExposureRiskCommand(int numberOfPeople) {
+        checkArgument(numberOfPeople > 0, "Number of people must be positive");
+        this.numberOfPeople = numberOfPeople;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.getPersonBook().getInfectedPersonIds().isEmpty()) {
+            throw new CommandException(MESSAGE_NO_INFECTED_PEOPLE);
+        }
+
+        ExposureRiskScorer scorer = new ExposureRiskScorer(model.getPersonBook(), model.getVisitBook(),
+                model.getHighRiskLocationTracker());
+        Map<Id, Double> topScores = scorer.getTopScores(numberOfPeople, model.getUserPrefs().getExposureWindow(),
+                LocalDate.now());
+        if (topScores.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PEOPLE_AT_RISK);
+        }
+
+        StringBuilder ranking = new StringBuilder();
+        int rank = 1;
+        for (Map.Entry<Id, Double> score : topScores.entrySet()) {
+            if (rank > 1) {
+                ranking.append("\n");
+            }
+            ranking.append(String.format(MESSAGE_RANK, rank++, model.getPersonById(score.getKey()).getName(),
+                    score.getValue()));
+        }
+        model.updateFilteredPersonList(ModelPredicate.getPredicateShowPeopleById(topScores.keySet()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, topScores.size(), ranking));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RankExposureRiskCommand // instanceof handles nulls
+                && numberOfPeople == ((RankExposureRiskCommand) other).numberOfPeople); // state check
+    }
+}
@@ -41,8 +41,8 @@ public class DeleteLocationCommand extends Command {
         requireNonNull(model);
 
         Location locationToDelete = pair.getLocationFromPair(model);
-        model.deleteLocation(locationToDelete);
         model.deleteVisitsWithLocation(locationToDelete);
+        model.deleteLocation(locationToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_LOCATION_SUCCESS, locationToDelete));
     }
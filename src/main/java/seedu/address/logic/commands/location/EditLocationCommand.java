@@ -70,7 +70,6 @@ public class EditLocationCommand extends Command {
         }
 
         model.setLocation(locationToEdit, editedLocation);
-        model.updateVisitBookWithEditedLocation(editedLocation);
 
         return new CommandResult(String.format(MESSAGE_EDIT_LOCATION_SUCCESS, editedLocation));
     }
@@ -0,0 +1,46 @@
+package seedu.address.logic.commands.location;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.location.LocationNameContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all locations in the location book whose name contains any of the argument keywords.
+ * Keyword matching is case insensitive, and a keyword ending with {@code *} matches by prefix.
+ */
+public class FindLocationCommand extends Command {
+
+    public static final String COMMAND_WORD = "findLocation";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all locations whose names contain any of "
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "A keyword ending with * matches names with a word starting with that keyword.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " vivocity changi\n"
+            + "Example: " + COMMAND_WORD + " viv* cha*";
+
+    private final LocationNameContainsKeywordsPredicate predicate;
+
+    public FindLocationCommand(LocationNameContainsKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredLocationList(predicate.withNameIndexOf(model.getLocationBook()));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_LOCATIONS_LISTED_OVERVIEW, model.getSortedLocationList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindLocationCommand // instanceof handles nulls
+                && predicate.equals(((FindLocationCommand) other).predicate)); // state check
+    }
+}
@@ -42,8 +42,8 @@ public class DeletePersonCommand extends Command {
         requireNonNull(model);
 
         Person personToDelete = pair.getPersonFromPair(model);
-        model.deletePerson(personToDelete);
         model.deleteVisitsWithPerson(personToDelete);
+        model.deletePerson(personToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
     }
@@ -108,8 +108,8 @@ public class AddVisitCommand extends Command {
         requireNonNull(visit);
 
         model.addVisit(visit);
-        String successMessage = getIllegalVisitWarning(visit);
-        return new CommandResult(String.format(successMessage, visit));
+        String successMessage = getIllegalVisitWarning(visit, model);
+        return new CommandResult(String.format(successMessage, DeleteVisitsCommand.describeVisit(model, visit)));
     }
 
     private Visit getVisitToAdd(Id personId, Id locationId, Model model) throws CommandException {
@@ -151,11 +151,12 @@ public class AddVisitCommand extends Command {
      * not his own, and he is either infected, in quarantine or both.
      *
      * @param visit The visit to check
+     * @param model The model the person and location of the visit are resolved from.
      * @return A warning string based on whether the visit is illegal or not.
      */
-    private static String getIllegalVisitWarning(Visit visit) {
-        Person person = visit.getPerson();
-        Location location = visit.getLocation();
+    private static String getIllegalVisitWarning(Visit visit, Model model) {
+        Person person = model.getPersonById(visit.getPersonId());
+        Location location = model.getLocationById(visit.getLocationId());
         boolean isPersonInfected = person.isInfected();
         boolean isPersonQuarantined = person.isQuarantined();
 
@@ -3,7 +3,9 @@ package seedu.address.logic.commands.visit;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddFromCsvCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,6 +19,8 @@ public class AddVisitsFromCsvCommand extends AddFromCsvCommand {
     public static final String VISITS = "visit(s)";
     public static final String MESSAGE_EMPTY_LIST = "There are no visits to be added into VirusTracker.";
 
+    private static final Logger logger = LogsCenter.getLogger(AddVisitsFromCsvCommand.class);
+
     private final List<DataGenerator.VisitParametersContainer> visitParametersContainersToAdd;
 
     /**
@@ -55,6 +59,10 @@ public class AddVisitsFromCsvCommand extends AddFromCsvCommand {
             successfulAdditions++;
         }
 
+        // Every visit in the file is looked up once, so the import shows how well the visit filter rules them out.
+        logger.info(String.format("Visit filter false positive rate after importing %d visit(s): %.4f",
+                visitParametersContainersToAdd.size(), model.getVisitBook().getFilterFalsePositiveRate()));
+
         String successMessage = createSuccessMessage(successfulAdditions, linesWithDuplicates.toString());
         return new CommandResult(successMessage);
     }
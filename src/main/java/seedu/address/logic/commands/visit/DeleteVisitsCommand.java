@@ -1,8 +1,11 @@
 package seedu.address.logic.commands.visit;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.model.ListComparator.getVisitComparator;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,6 +13,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.attribute.Id;
 import seedu.address.model.visit.Visit;
 
 
@@ -28,6 +32,8 @@ public class DeleteVisitsCommand extends Command {
             + "Example: " + COMMAND_WORD + " " + PREFIX_DATE + " 2020-09-09 ";
     public static final String MESSAGE_DELETE_VISIT_SUCCESS = "Deleted Visits: \n";
     public static final String MESSAGE_DELETE_VISIT_FAILED = "All visits were after the date, hence not deleted.";
+    public static final String MESSAGE_DELETED_VISIT = " Person: %1$s Location: %2$s Date: %3$s";
+    public static final DateTimeFormatter DELETED_VISIT_DATE_FORMAT = DateTimeFormatter.ofPattern("MMM dd yyyy");
     private final LocalDate targetDate;
 
     public DeleteVisitsCommand(LocalDate targetDate) {
@@ -37,45 +43,47 @@ public class DeleteVisitsCommand extends Command {
     /**
      * Deletes Visits identified using their displayed dates from the visit list.
      * Returns the list of deleted visits using a string
-     * All the visits that have the date equals or before the parsed date will be removed from the list.
+     * All the visits that have the date equals or before the parsed date will be removed from the list
+     * in one bulk operation, and are listed in the order they were displayed.
      * @param model manages the action of deleting the visits.
-     * @param lastShownList is the list the visit will be removed from.
      * @param targetDate is the date to be compared with.
      */
 
-    public String deleteVisit(Model model, List<Visit> lastShownList, LocalDate targetDate) throws CommandException {
+    public String deleteVisit(Model model, LocalDate targetDate) throws CommandException {
         assert targetDate != null;
-        assert lastShownList != null;
-        // display the visits deleted
-        StringBuilder visitsToDelete = new StringBuilder(MESSAGE_DELETE_VISIT_SUCCESS);
-        // count how many visits are deleted and display them in an order
-        int order = 1;
-        List<Visit> visitsToBeDeleted = new ArrayList<>();
-        for (Visit visit: lastShownList) {
-            if (visit.getDate().isBefore(targetDate) || visit.getDate().isEqual(targetDate)) {
-                visitsToBeDeleted.add(visit);
-                visitsToDelete.append(order).append(". ").append(visit).append(" \n");
-                order++;
-            }
+        List<Visit> visitsDeleted = new ArrayList<>(model.deleteVisitsOnOrBefore(targetDate));
+        if (visitsDeleted.isEmpty()) {
+            throw new CommandException(MESSAGE_DELETE_VISIT_FAILED);
         }
+        visitsDeleted.sort(getVisitComparator(model.getPersonBook(), model.getLocationBook()));
 
-        if (order > 1) {
-            for (Visit visit: visitsToBeDeleted) {
-                model.deleteVisit(visit);
-            }
+        // display the visits deleted in an order
+        StringBuilder visitsToDelete = new StringBuilder(MESSAGE_DELETE_VISIT_SUCCESS);
+        int order = 1;
+        for (Visit visit: visitsDeleted) {
+            visitsToDelete.append(order).append(". ").append(describeVisit(model, visit)).append(" \n");
+            order++;
         }
+        return visitsToDelete.toString();
+    }
 
-        if (order == 1) {
-            throw new CommandException(MESSAGE_DELETE_VISIT_FAILED);
-        } else {
-            return visitsToDelete.toString();
-        }
+    /**
+     * Describes {@code visit} by the names of its person and location, which are looked up in {@code model}.
+     * A person or location that is not in the model is described by its Id instead.
+     */
+    public static String describeVisit(Model model, Visit visit) {
+        Id personId = visit.getPersonId();
+        Id locationId = visit.getLocationId();
+        Object person = model.hasPersonId(personId) ? model.getPersonById(personId).getName() : personId;
+        Object location = model.hasLocationId(locationId) ? model.getLocationById(locationId).getName() : locationId;
+        return String.format(MESSAGE_DELETED_VISIT, person, location,
+                visit.getDate().format(DELETED_VISIT_DATE_FORMAT));
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        List<Visit> lastShownList = model.getSortedVisitList();
-        String result = deleteVisit(model, lastShownList, targetDate);
+        requireNonNull(model);
+        String result = deleteVisit(model, targetDate);
         return new CommandResult(result);
     }
 
@@ -16,4 +16,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_PERSON_ID = new Prefix("idp/");
     public static final Prefix PREFIX_LOCATION_ID = new Prefix("idl/");
+    public static final Prefix PREFIX_DEGREE = new Prefix("deg/");
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEGREE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_ID;
 import static seedu.address.logic.parser.IndexIdPair.checkIndexOrIdOnly;
 
@@ -20,7 +21,7 @@ public class GeneratePeopleCommandParser implements Parser<GeneratePeopleCommand
      */
     public GeneratePeopleCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PERSON_ID);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PERSON_ID, PREFIX_DEGREE);
 
         if (!checkIndexOrIdOnly(argMultimap, PREFIX_PERSON_ID)) {
             throw new ParseException(
@@ -28,6 +29,10 @@ public class GeneratePeopleCommandParser implements Parser<GeneratePeopleCommand
         }
 
         IndexIdPair pair = new IndexIdPair(argMultimap, PREFIX_PERSON_ID);
-        return new GeneratePeopleCommand(pair);
+        if (argMultimap.getValue(PREFIX_DEGREE).isEmpty()) {
+            return new GeneratePeopleCommand(pair);
+        }
+        int degree = ParserUtil.parseDegree(argMultimap.getValue(PREFIX_DEGREE).get());
+        return new GeneratePeopleCommand(pair, degree);
     }
 }
@@ -8,7 +8,9 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.GeneratePeopleCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.attribute.Address;
@@ -26,6 +28,8 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "The input index is out of range for the current list!";
     public static final String MESSAGE_INVALID_DATE_FORMAT = "Wrong input date format";
+    public static final String MESSAGE_INVALID_DEGREE = "The degree of contact should be a whole number from 1 to "
+            + GeneratePeopleCommand.MAX_DEGREE;
 
     /**
      * Parses {@code id} into an {@code Id} and returns it.
@@ -38,7 +42,7 @@ public class ParserUtil {
         if (!Id.isValidId(trimmedId)) {
             throw new ParseException(Id.MESSAGE_CONSTRAINTS);
         }
-        return new Id(trimmedId);
+        return Id.of(trimmedId);
     }
 
     /**
@@ -54,6 +58,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code degree} into a degree of contact and returns it. Leading and trailing whitespaces will be
+     * trimmed.
+     * @throws ParseException if the specified degree is not between 1 and {@code GeneratePeopleCommand.MAX_DEGREE}.
+     */
+    public static int parseDegree(String degree) throws ParseException {
+        requireNonNull(degree);
+        String trimmedDegree = degree.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDegree)
+                || Integer.parseInt(trimmedDegree) > GeneratePeopleCommand.MAX_DEGREE) {
+            throw new ParseException(MESSAGE_INVALID_DEGREE);
+        }
+        return Integer.parseInt(trimmedDegree);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -66,7 +85,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -81,7 +100,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.of(trimmedPhone);
     }
 
     /**
@@ -96,7 +115,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -111,7 +130,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.of(trimmedEmail);
     }
 
     /**
@@ -127,7 +146,7 @@ public class ParserUtil {
         DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         LocalDate parsedDate;
         try {
-            parsedDate = LocalDate.parse(trimmedDate, inputFormat);
+            parsedDate = DateUtil.intern(LocalDate.parse(trimmedDate, inputFormat));
         } catch (DateTimeParseException e) {
             throw new ParseException(MESSAGE_INVALID_DATE_FORMAT);
         }
@@ -147,7 +166,7 @@ public class ParserUtil {
         if (!QuarantineStatus.isValidQuarantineStatus(trimmedQuarantineStatus)) {
             throw new ParseException(QuarantineStatus.MESSAGE_CONSTRAINTS);
         }
-        return new QuarantineStatus(trimmedQuarantineStatus);
+        return QuarantineStatus.of(trimmedQuarantineStatus);
     }
 
     /**
@@ -162,7 +181,7 @@ public class ParserUtil {
         if (!InfectionStatus.isValidInfectionStatus(trimmedInfectionStatus)) {
             throw new ParseException(InfectionStatus.MESSAGE_CONSTRAINTS);
         }
-        return new InfectionStatus(trimmedInfectionStatus);
+        return InfectionStatus.of(trimmedInfectionStatus);
     }
 
     /**
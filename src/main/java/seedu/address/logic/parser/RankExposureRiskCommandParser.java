@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RankExposureRiskCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RankExposureRiskCommand object
+ */
+public class RankExposureRiskCommandParser implements Parser<RankExposureRiskCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RankExposureRiskCommand
+     * and returns a RankExposureRiskCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RankExposureRiskCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new RankExposureRiskCommand();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankExposureRiskCommand.MESSAGE_USAGE));
+        }
+        return new RankExposureRiskCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -11,13 +11,16 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportToCsvCommand;
+import seedu.address.logic.commands.GenerateAllPeopleCommand;
 import seedu.address.logic.commands.GenerateLocationsCommand;
 import seedu.address.logic.commands.GeneratePeopleCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RankExposureRiskCommand;
 import seedu.address.logic.commands.location.AddLocationCommand;
 import seedu.address.logic.commands.location.DeleteLocationCommand;
 import seedu.address.logic.commands.location.EditLocationCommand;
+import seedu.address.logic.commands.location.FindLocationCommand;
 import seedu.address.logic.commands.person.AddPersonCommand;
 import seedu.address.logic.commands.person.DeletePersonCommand;
 import seedu.address.logic.commands.person.EditPersonCommand;
@@ -29,6 +32,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.location.AddLocationCommandParser;
 import seedu.address.logic.parser.location.DeleteLocationCommandParser;
 import seedu.address.logic.parser.location.EditLocationCommandParser;
+import seedu.address.logic.parser.location.FindLocationCommandParser;
 import seedu.address.logic.parser.person.AddPersonCommandParser;
 import seedu.address.logic.parser.person.DeletePersonCommandParser;
 import seedu.address.logic.parser.person.EditPersonCommandParser;
@@ -89,6 +93,9 @@ public class VirusTrackerParser {
         case FindPersonCommand.COMMAND_WORD:
             return new FindPersonCommandParser().parse(arguments);
 
+        case FindLocationCommand.COMMAND_WORD:
+            return new FindLocationCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommandParser().parse(arguments);
 
@@ -98,6 +105,12 @@ public class VirusTrackerParser {
         case GeneratePeopleCommand.COMMAND_WORD:
             return new GeneratePeopleCommandParser().parse(arguments);
 
+        case GenerateAllPeopleCommand.COMMAND_WORD:
+            return new GenerateAllPeopleCommand();
+
+        case RankExposureRiskCommand.COMMAND_WORD:
+            return new RankExposureRiskCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
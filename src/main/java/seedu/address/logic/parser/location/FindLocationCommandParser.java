@@ -0,0 +1,34 @@
+package seedu.address.logic.parser.location;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.location.FindLocationCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.location.LocationNameContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindLocationCommand object
+ */
+public class FindLocationCommandParser implements Parser<FindLocationCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindLocationCommand
+     * and returns a FindLocationCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindLocationCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLocationCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameKeywords = trimmedArgs.split("\\s+");
+
+        return new FindLocationCommand(new LocationNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    }
+
+}
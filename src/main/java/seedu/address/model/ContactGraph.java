@@ -0,0 +1,243 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.IdDictionary;
+import seedu.address.model.attribute.ReadOnlyIdDictionary;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Keeps the people each person has been in contact with, and the days on which they were in contact.
+ * Two people are in contact on a day if they visited the same location on that day.
+ * The graph is updated incrementally as visits are added, edited or removed in the visit book: each changed visit
+ * is joined with the other visits to its location on its day, so the contacts of a person can be read in time
+ * proportional to their number of contacts.
+ *
+ * The graph is derived from the visit book, so it is not saved and is rebuilt whenever the visit book is replaced.
+ * People are kept by their ordinal in the visit book's person Id dictionary.
+ */
+public class ContactGraph {
+
+    private final ReadOnlyVisitBook visitBook;
+    // The contacts of each person, from the ordinal of the contact to the days they shared.
+    private final List<Map<Integer, SharedDays>> contacts = new ArrayList<>();
+
+    /**
+     * Builds the contact graph of {@code visitBook} and keeps it up to date with the visit book.
+     */
+    public ContactGraph(ReadOnlyVisitBook visitBook) {
+        requireNonNull(visitBook);
+        this.visitBook = visitBook;
+
+        rebuild();
+
+        visitBook.getVisitList().addListener(this::onVisitsChanged);
+    }
+
+    /**
+     * Returns the Ids of the people who have been in contact with the person with {@code personId}, with the last
+     * day each of them was in contact with the person.
+     */
+    public Map<Id, LocalDate> getContacts(Id personId) {
+        requireNonNull(personId);
+        ReadOnlyIdDictionary personIds = visitBook.getPersonIdDictionary();
+        Map<Id, LocalDate> lastContactDates = new LinkedHashMap<>();
+        for (Map.Entry<Integer, SharedDays> contact : getContactsOf(personIds.getOrdinal(personId)).entrySet()) {
+            lastContactDates.put(personIds.getId(contact.getKey()), LocalDate.ofEpochDay(contact.getValue().getLast()));
+        }
+        return lastContactDates;
+    }
+
+    /**
+     * Returns the Ids of the people who were in contact with the person with {@code personId} on any day between
+     * {@code startDate} and {@code endDate} inclusive.
+     */
+    public Set<Id> getContactIdsBetween(Id personId, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(personId, startDate, endDate);
+        ReadOnlyIdDictionary personIds = visitBook.getPersonIdDictionary();
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        Set<Id> contactIds = new LinkedHashSet<>();
+        for (Map.Entry<Integer, SharedDays> contact : getContactsOf(personIds.getOrdinal(personId)).entrySet()) {
+            if (contact.getValue().hasDayBetween(startDay, endDay)) {
+                contactIds.add(personIds.getId(contact.getKey()));
+            }
+        }
+        return contactIds;
+    }
+
+    /**
+     * Returns the number of pairs of people who have been in contact.
+     */
+    public int getNumberOfContactPairs() {
+        int numberOfContacts = 0;
+        for (Map<Integer, SharedDays> contactsOfPerson : contacts) {
+            numberOfContacts += contactsOfPerson.size();
+        }
+        return numberOfContacts / 2;
+    }
+
+    private Map<Integer, SharedDays> getContactsOf(int personOrdinal) {
+        if (personOrdinal == IdDictionary.NO_ORDINAL || personOrdinal >= contacts.size()) {
+            return Map.of();
+        }
+        return contacts.get(personOrdinal);
+    }
+
+    private void onVisitsChanged(ListChangeListener.Change<? extends Visit> change) {
+        List<Visit> removedVisits = new ArrayList<>();
+        List<Visit> addedVisits = new ArrayList<>();
+        while (change.next()) {
+            removedVisits.addAll(change.getRemoved());
+            addedVisits.addAll(change.getAddedSubList());
+        }
+        int oldSize = change.getList().size() - addedVisits.size() + removedVisits.size();
+        if (!removedVisits.isEmpty() && removedVisits.size() == oldSize) {
+            // Every visit was replaced, and the ordinals of the visit book may have been reassigned.
+            rebuild();
+            return;
+        }
+
+        // The visit book already holds the added visits and no longer holds the removed ones. Each pair of visits
+        // is joined once: a changed visit is only joined with the changed visits that were handled before it.
+        // The removed visits are grouped by location and day, so each is only joined with the removed visits it
+        // shares them with.
+        Set<Visit> unhandledAddedVisits = new HashSet<>(addedVisits);
+        Map<Map.Entry<Id, LocalDate>, List<Visit>> handledRemovedVisits = new HashMap<>();
+        for (Visit removedVisit : removedVisits) {
+            changeContactsOf(removedVisit, unhandledAddedVisits, -1);
+            List<Visit> sameLocationAndDayVisits = handledRemovedVisits.computeIfAbsent(
+                    Map.entry(removedVisit.getLocationId(), removedVisit.getDate()), unused -> new ArrayList<>());
+            for (Visit handledVisit : sameLocationAndDayVisits) {
+                changeContact(removedVisit.getPersonId(), handledVisit.getPersonId(), removedVisit.getDate(), -1);
+            }
+            sameLocationAndDayVisits.add(removedVisit);
+        }
+        for (Visit addedVisit : addedVisits) {
+            unhandledAddedVisits.remove(addedVisit);
+            changeContactsOf(addedVisit, unhandledAddedVisits, 1);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the contact between the person of {@code visit} and everyone else who visited its
+     * location on its day, other than by one of the {@code excludedVisits}.
+     */
+    private void changeContactsOf(Visit visit, Set<Visit> excludedVisits, int delta) {
+        for (Visit otherVisit : visitBook.getVisitsByLocationIdOnDate(visit.getLocationId(), visit.getDate())) {
+            if (!otherVisit.getPersonId().equals(visit.getPersonId()) && !excludedVisits.contains(otherVisit)) {
+                changeContact(visit.getPersonId(), otherVisit.getPersonId(), visit.getDate(), delta);
+            }
+        }
+    }
+
+    private void changeContact(Id personId, Id contactId, LocalDate date, int delta) {
+        ReadOnlyIdDictionary personIds = visitBook.getPersonIdDictionary();
+        int personOrdinal = personIds.getOrdinal(personId);
+        int contactOrdinal = personIds.getOrdinal(contactId);
+        assert personOrdinal != IdDictionary.NO_ORDINAL && contactOrdinal != IdDictionary.NO_ORDINAL;
+        int epochDay = Math.toIntExact(date.toEpochDay());
+        if (delta > 0) {
+            addSharedDay(personOrdinal, contactOrdinal, epochDay);
+            addSharedDay(contactOrdinal, personOrdinal, epochDay);
+        } else {
+            removeSharedDay(personOrdinal, contactOrdinal, epochDay);
+            removeSharedDay(contactOrdinal, personOrdinal, epochDay);
+        }
+    }
+
+    /**
+     * Rebuilds the graph from every visit in the visit book.
+     */
+    private void rebuild() {
+        contacts.clear();
+        visitBook.forEachVisit((personOrdinal, locationOrdinal, epochDay) ->
+                visitBook.forEachVisitByLocationOnDay(locationOrdinal, epochDay, (contactOrdinal, unusedLocation,
+                        unusedDay) -> {
+                    // Each pair of visits is met twice, so only the one with the smaller person ordinal adds it.
+                    if (contactOrdinal > personOrdinal) {
+                        addSharedDay(personOrdinal, contactOrdinal, epochDay);
+                        addSharedDay(contactOrdinal, personOrdinal, epochDay);
+                    }
+                }));
+    }
+
+    private void addSharedDay(int personOrdinal, int contactOrdinal, int epochDay) {
+        while (contacts.size() <= personOrdinal) {
+            contacts.add(new HashMap<>());
+        }
+        contacts.get(personOrdinal).computeIfAbsent(contactOrdinal, unused -> new SharedDays()).add(epochDay);
+    }
+
+    private void removeSharedDay(int personOrdinal, int contactOrdinal, int epochDay) {
+        Map<Integer, SharedDays> contactsOfPerson = getContactsOf(personOrdinal);
+        SharedDays sharedDays = contactsOfPerson.get(contactOrdinal);
+        assert sharedDays != null;
+        sharedDays.remove(epochDay);
+        if (sharedDays.isEmpty()) {
+            contactsOfPerson.remove(contactOrdinal);
+        }
+    }
+
+    /**
+     * The days on which two people were in contact, once for every location they both visited on that day.
+     */
+    private static class SharedDays {
+
+        private int[] epochDays = new int[1];
+        private int size;
+
+        private void add(int epochDay) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+            }
+            epochDays[size++] = epochDay;
+        }
+
+        private void remove(int epochDay) {
+            for (int i = 0; i < size; i++) {
+                if (epochDays[i] == epochDay) {
+                    epochDays[i] = epochDays[--size];
+                    return;
+                }
+            }
+            assert false : "Day " + epochDay + " was not shared";
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private int getLast() {
+            int last = epochDays[0];
+            for (int i = 1; i < size; i++) {
+                last = Math.max(last, epochDays[i]);
+            }
+            return last;
+        }
+
+        private boolean hasDayBetween(long startDay, long endDay) {
+            for (int i = 0; i < size; i++) {
+                if (epochDays[i] >= startDay && epochDays[i] <= endDay) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
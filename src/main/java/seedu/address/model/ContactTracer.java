@@ -0,0 +1,238 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.IdDictionary;
+import seedu.address.model.attribute.ReadOnlyIdDictionary;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Finds the people who were in contact with a person, using the indexes of a visit book.
+ * Two people are in contact if they visited the same location on the same day.
+ * Each exposure visit is joined with the other visits through the visit book's location and date index,
+ * so tracing takes time proportional to the visits found rather than the size of the visit book.
+ *
+ * Contacts can also be traced over several degrees: the contacts of a contact are found from the visits the contact
+ * made on or after the day they were first exposed.
+ *
+ * The visit book must not be modified while it is being traced.
+ */
+public class ContactTracer {
+
+    // Number of people traced by one fork-join task before the work is not split any further.
+    private static final int PEOPLE_PER_TASK = 32;
+
+    private final ReadOnlyVisitBook visitBook;
+
+    /**
+     * Creates a {@code ContactTracer} over the visits in {@code visitBook}.
+     */
+    public ContactTracer(ReadOnlyVisitBook visitBook) {
+        requireNonNull(visitBook);
+        this.visitBook = visitBook;
+    }
+
+    /**
+     * Returns the visits made by the person with {@code personId} between {@code startDate} and {@code endDate}
+     * inclusive, in the order they were added.
+     */
+    public List<Visit> getVisitsByPersonBetween(Id personId, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(personId, startDate, endDate);
+        return visitBook.getVisitsByPersonIdBetween(personId, startDate, endDate);
+    }
+
+    /**
+     * Returns the Ids of the people within {@code maxDegree} degrees of contact of the person with {@code personId},
+     * grouped by degree. The set at index {@code i} holds the people first reached at degree {@code i + 1}, so each
+     * person appears in at most one set. The list stops at the last degree that reached anyone.
+     *
+     * The person's own visits between {@code startDate} and {@code endDate} inclusive are traced. Every contact
+     * found is traced from the earliest day they were exposed up to {@code endDate}.
+     * The search is breadth-first over person ordinals, with the people already reached kept in a bitset.
+     */
+    public List<Set<Id>> getContactIdsByDegree(Id personId, LocalDate startDate, LocalDate endDate, int maxDegree) {
+        requireAllNonNull(personId, startDate, endDate);
+        checkArgument(maxDegree > 0, "Degree must be positive");
+        List<Set<Id>> contactIdsByDegree = new ArrayList<>();
+        ReadOnlyIdDictionary personIds = visitBook.getPersonIdDictionary();
+        int personOrdinal = personIds.getOrdinal(personId);
+        if (personOrdinal == IdDictionary.NO_ORDINAL) {
+            return contactIdsByDegree;
+        }
+
+        int endDay = toEpochDay(endDate);
+        BitSet reached = new BitSet(personIds.size());
+        // The first day from which each person in the frontier is traced.
+        int[] exposureDays = new int[personIds.size()];
+        BitSet frontier = new BitSet(personIds.size());
+        reached.set(personOrdinal);
+        frontier.set(personOrdinal);
+        exposureDays[personOrdinal] = toEpochDay(startDate);
+
+        for (int degree = 1; degree <= maxDegree; degree++) {
+            BitSet nextFrontier = new BitSet(personIds.size());
+            for (int ordinal = frontier.nextSetBit(0); ordinal >= 0; ordinal = frontier.nextSetBit(ordinal + 1)) {
+                traceFrom(ordinal, exposureDays[ordinal], endDay, reached, nextFrontier, exposureDays);
+            }
+            if (nextFrontier.isEmpty()) {
+                break;
+            }
+            Set<Id> contactIds = new LinkedHashSet<>();
+            for (int ordinal = nextFrontier.nextSetBit(0); ordinal >= 0;
+                    ordinal = nextFrontier.nextSetBit(ordinal + 1)) {
+                contactIds.add(personIds.getId(ordinal));
+            }
+            contactIdsByDegree.add(contactIds);
+            frontier = nextFrontier;
+        }
+        return contactIdsByDegree;
+    }
+
+    /**
+     * Returns the number of times each person was exposed to any of the infected people in {@code infectionDates},
+     * for every person exposed at least once. Each infected person is traced over {@code exposureWindow} around
+     * their infection date, up to {@code today}.
+     * A person is exposed once for every visit of theirs that shares its location and day with a traced visit of one
+     * of the infected people, other than themselves. The people are ordered by their ordinal in the visit book.
+     *
+     * The infected people are split between the tasks of the common fork-join pool, which all read the same indexes
+     * of the visit book. Each task counts into an array over person ordinals, and the arrays are summed as the
+     * tasks are joined.
+     */
+    public Map<Id, Integer> getExposureCounts(Map<Id, LocalDate> infectionDates, ExposureWindow exposureWindow,
+                                              LocalDate today) {
+        requireAllNonNull(infectionDates, exposureWindow, today);
+        ReadOnlyIdDictionary personIdDictionary = visitBook.getPersonIdDictionary();
+        int[] personOrdinals = new int[infectionDates.size()];
+        int[] startDays = new int[infectionDates.size()];
+        int[] endDays = new int[infectionDates.size()];
+        int numberOfTracedPeople = 0;
+        for (Map.Entry<Id, LocalDate> infectionDate : infectionDates.entrySet()) {
+            int ordinal = personIdDictionary.getOrdinal(infectionDate.getKey());
+            if (ordinal != IdDictionary.NO_ORDINAL) {
+                personOrdinals[numberOfTracedPeople] = ordinal;
+                startDays[numberOfTracedPeople] = toEpochDay(exposureWindow.getStartDate(infectionDate.getValue()));
+                endDays[numberOfTracedPeople] = toEpochDay(exposureWindow.getEndDate(infectionDate.getValue(), today));
+                numberOfTracedPeople++;
+            }
+        }
+        int[] exposureCounts = ForkJoinPool.commonPool().invoke(new ExposureCountTask(personOrdinals, startDays,
+                endDays, 0, numberOfTracedPeople, personIdDictionary.size()));
+
+        Map<Id, Integer> exposureCountsById = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < exposureCounts.length; ordinal++) {
+            if (exposureCounts[ordinal] > 0) {
+                exposureCountsById.put(personIdDictionary.getId(ordinal), exposureCounts[ordinal]);
+            }
+        }
+        return exposureCountsById;
+    }
+
+    /**
+     * Adds the people who were in contact with the person with {@code personOrdinal} between {@code startDay} and
+     * {@code endDay}, and who have not been reached yet, to {@code nextFrontier}.
+     * Records the earliest day each of them was exposed in {@code exposureDays}.
+     */
+    private void traceFrom(int personOrdinal, int startDay, int endDay, BitSet reached, BitSet nextFrontier,
+                           int[] exposureDays) {
+        visitBook.forEachVisitByPerson(personOrdinal, (unused, locationOrdinal, epochDay) -> {
+            if (epochDay < startDay || epochDay > endDay) {
+                return;
+            }
+            visitBook.forEachVisitByLocationOnDay(locationOrdinal, epochDay, (contactOrdinal, unusedLocation,
+                    unusedDay) -> {
+                if (nextFrontier.get(contactOrdinal)) {
+                    exposureDays[contactOrdinal] = Math.min(exposureDays[contactOrdinal], epochDay);
+                } else if (!reached.get(contactOrdinal)) {
+                    reached.set(contactOrdinal);
+                    nextFrontier.set(contactOrdinal);
+                    exposureDays[contactOrdinal] = epochDay;
+                }
+            });
+        });
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * Counts the exposures to the people at positions {@code from} (inclusive) to {@code to} (exclusive) of an
+     * array of person ordinals, each traced between the epoch days at the same position of {@code startDays} and
+     * {@code endDays}. The range is split in half until it is small enough.
+     */
+    private class ExposureCountTask extends RecursiveTask<int[]> {
+
+        private final int[] personOrdinals;
+        private final int[] startDays;
+        private final int[] endDays;
+        private final int from;
+        private final int to;
+        private final int numberOfPeople;
+
+        private ExposureCountTask(int[] personOrdinals, int[] startDays, int[] endDays, int from, int to,
+                                  int numberOfPeople) {
+            this.personOrdinals = personOrdinals;
+            this.startDays = startDays;
+            this.endDays = endDays;
+            this.from = from;
+            this.to = to;
+            this.numberOfPeople = numberOfPeople;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= PEOPLE_PER_TASK) {
+                return countExposures();
+            }
+            int middle = (from + to) >>> 1;
+            ExposureCountTask left = new ExposureCountTask(personOrdinals, startDays, endDays, from, middle,
+                    numberOfPeople);
+            ExposureCountTask right = new ExposureCountTask(personOrdinals, startDays, endDays, middle, to,
+                    numberOfPeople);
+            left.fork();
+            int[] counts = right.compute();
+            int[] leftCounts = left.join();
+            for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+                counts[ordinal] += leftCounts[ordinal];
+            }
+            return counts;
+        }
+
+        private int[] countExposures() {
+            int[] counts = new int[numberOfPeople];
+            for (int i = from; i < to; i++) {
+                int personOrdinal = personOrdinals[i];
+                int startDay = startDays[i];
+                int endDay = endDays[i];
+                visitBook.forEachVisitByPerson(personOrdinal, (unused, locationOrdinal, epochDay) -> {
+                    if (epochDay < startDay || epochDay > endDay) {
+                        return;
+                    }
+                    visitBook.forEachVisitByLocationOnDay(locationOrdinal, epochDay, (contactOrdinal, unusedLocation,
+                            unusedDay) -> {
+                        if (contactOrdinal != personOrdinal) {
+                            counts[contactOrdinal]++;
+                        }
+                    });
+                });
+            }
+            return counts;
+        }
+    }
+}
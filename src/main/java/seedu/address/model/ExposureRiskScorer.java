@@ -0,0 +1,235 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.IdDictionary;
+import seedu.address.model.attribute.ReadOnlyIdDictionary;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+
+/**
+ * Scores the risk of every person who is not infected of having been exposed to an infected person, and ranks the
+ * people most at risk. The books are read directly, so the displayed lists do not affect the scores.
+ *
+ * A person is exposed once for every visit of theirs that shares its location and day with a visit of an infected
+ * person in their exposure window. Each exposure adds to the score:
+ * <ul>
+ *     <li>a recency weight of {@code 1 / (1 + t / RECENCY_HALVING_DAYS)} for an exposure {@code t} days before
+ *     today, which halves after {@code RECENCY_HALVING_DAYS} days and never reaches 0 for old exposures, times</li>
+ *     <li>a location weight of {@code 1 + ln(n)}, where {@code n} is the number of visits by infected persons to
+ *     the location of the exposure, as counted by the {@code HighRiskLocationTracker}.</li>
+ * </ul>
+ *
+ * The books must not be modified while they are being scored.
+ */
+public class ExposureRiskScorer {
+
+    public static final int RECENCY_HALVING_DAYS = 7;
+
+    // Number of infected people traced by one fork-join task before the work is not split any further.
+    private static final int PEOPLE_PER_TASK = 32;
+
+    private final ReadOnlyPersonBook personBook;
+    private final ReadOnlyVisitBook visitBook;
+    private final HighRiskLocationTracker highRiskLocationTracker;
+
+    /**
+     * Creates an {@code ExposureRiskScorer} over the people in {@code personBook} and the visits in
+     * {@code visitBook}, with the infected visit counts of {@code highRiskLocationTracker}.
+     */
+    public ExposureRiskScorer(ReadOnlyPersonBook personBook, ReadOnlyVisitBook visitBook,
+                              HighRiskLocationTracker highRiskLocationTracker) {
+        requireAllNonNull(personBook, visitBook, highRiskLocationTracker);
+        this.personBook = personBook;
+        this.visitBook = visitBook;
+        this.highRiskLocationTracker = highRiskLocationTracker;
+    }
+
+    /**
+     * Returns the Ids of up to {@code limit} people with the highest scores, with their scores, in decreasing order
+     * of score. People with the same score are ordered by their ordinal in the visit book. Only people with a
+     * positive score are ranked.
+     * Each infected person is traced over {@code exposureWindow} around their infection date, up to {@code today}.
+     *
+     * The scores are pushed from the visits of the infected people in their exposure windows to the other people
+     * who shared them, so only those visits and the visits they share a location and day with are read.
+     * The infected people are split between the tasks of the common fork-join pool. Each task adds into an array of
+     * scores over person ordinals, and the arrays are summed as the tasks are joined. The top scores are then kept
+     * in a heap of at most {@code limit} people, so the scores are never fully sorted. A {@code limit} larger than
+     * the number of people with visits ranks all of them.
+     */
+    public Map<Id, Double> getTopScores(int limit, ExposureWindow exposureWindow, LocalDate today) {
+        requireAllNonNull(exposureWindow, today);
+        checkArgument(limit > 0, "Limit must be positive");
+        ReadOnlyIdDictionary personIds = visitBook.getPersonIdDictionary();
+        Set<Id> infectedPersonIds = personBook.getInfectedPersonIds();
+
+        BitSet infectedPersonOrdinals = new BitSet(personIds.size());
+        int[] tracedPersonOrdinals = new int[infectedPersonIds.size()];
+        int[] startDays = new int[infectedPersonIds.size()];
+        int[] endDays = new int[infectedPersonIds.size()];
+        int numberOfTracedPeople = 0;
+        for (Id infectedPersonId : infectedPersonIds) {
+            int ordinal = personIds.getOrdinal(infectedPersonId);
+            if (ordinal != IdDictionary.NO_ORDINAL) {
+                LocalDate infectionDate = personBook.getPersonById(infectedPersonId).getInfectionStatus()
+                        .getInfectionDate().get();
+                infectedPersonOrdinals.set(ordinal);
+                tracedPersonOrdinals[numberOfTracedPeople] = ordinal;
+                startDays[numberOfTracedPeople] = toEpochDay(exposureWindow.getStartDate(infectionDate));
+                endDays[numberOfTracedPeople] = toEpochDay(exposureWindow.getEndDate(infectionDate, today));
+                numberOfTracedPeople++;
+            }
+        }
+
+        ReadOnlyIdDictionary locationIds = visitBook.getLocationIdDictionary();
+        double[] locationWeights = new double[locationIds.size()];
+        for (int locationOrdinal = 0; locationOrdinal < locationWeights.length; locationOrdinal++) {
+            int infectedVisitCount = highRiskLocationTracker.getInfectedVisitCount(locationIds.getId(locationOrdinal));
+            locationWeights[locationOrdinal] = 1 + Math.log(Math.max(1, infectedVisitCount));
+        }
+
+        double[] scores = ForkJoinPool.commonPool().invoke(new ScoreTask(new ScoringData(tracedPersonOrdinals,
+                startDays, endDays, infectedPersonOrdinals, locationWeights, toEpochDay(today), personIds.size()),
+                0, numberOfTracedPeople));
+
+        return getTopScores(scores, limit, personIds);
+    }
+
+    /**
+     * Returns the weight of an exposure {@code daysAgo} days before today. Exposures on or after today have a
+     * weight of 1.
+     */
+    public static double getRecencyWeight(int daysAgo) {
+        return 1 / (1 + (double) Math.max(0, daysAgo) / RECENCY_HALVING_DAYS);
+    }
+
+    private static Map<Id, Double> getTopScores(double[] scores, int limit, ReadOnlyIdDictionary personIds) {
+        // The head of the heap is the lowest ranked person kept so far.
+        Comparator<Integer> byRank = Comparator.<Integer>comparingDouble(ordinal -> scores[ordinal])
+                .thenComparing(Comparator.reverseOrder());
+        int heapLimit = Math.min(limit, scores.length);
+        PriorityQueue<Integer> topOrdinals = new PriorityQueue<>(heapLimit + 1, byRank);
+        for (int ordinal = 0; ordinal < scores.length; ordinal++) {
+            if (scores[ordinal] <= 0) {
+                continue;
+            }
+            if (topOrdinals.size() < heapLimit) {
+                topOrdinals.add(ordinal);
+            } else if (byRank.compare(ordinal, topOrdinals.peek()) > 0) {
+                topOrdinals.poll();
+                topOrdinals.add(ordinal);
+            }
+        }
+
+        int[] rankedOrdinals = new int[topOrdinals.size()];
+        for (int rank = rankedOrdinals.length - 1; rank >= 0; rank--) {
+            rankedOrdinals[rank] = topOrdinals.poll();
+        }
+        Map<Id, Double> topScores = new LinkedHashMap<>();
+        for (int ordinal : rankedOrdinals) {
+            topScores.put(personIds.getId(ordinal), scores[ordinal]);
+        }
+        return topScores;
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * The data every task reads to score people: the ordinals of the infected people to trace with their exposure
+     * windows as epoch days at the same positions, the infected people as a set of ordinals, the weight of each
+     * location by location ordinal, today as an epoch day, and the number of people in the visit book.
+     */
+    private static class ScoringData {
+
+        private final int[] tracedPersonOrdinals;
+        private final int[] startDays;
+        private final int[] endDays;
+        private final BitSet infectedPersonOrdinals;
+        private final double[] locationWeights;
+        private final int today;
+        private final int numberOfPeople;
+
+        private ScoringData(int[] tracedPersonOrdinals, int[] startDays, int[] endDays, BitSet infectedPersonOrdinals,
+                            double[] locationWeights, int today, int numberOfPeople) {
+            this.tracedPersonOrdinals = tracedPersonOrdinals;
+            this.startDays = startDays;
+            this.endDays = endDays;
+            this.infectedPersonOrdinals = infectedPersonOrdinals;
+            this.locationWeights = locationWeights;
+            this.today = today;
+            this.numberOfPeople = numberOfPeople;
+        }
+    }
+
+    /**
+     * Scores the exposures to the infected people at positions {@code from} (inclusive) to {@code to} (exclusive)
+     * of the traced person ordinals. The range is split in half until it is small enough.
+     */
+    private class ScoreTask extends RecursiveTask<double[]> {
+
+        private final ScoringData data;
+        private final int from;
+        private final int to;
+
+        private ScoreTask(ScoringData data, int from, int to) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= PEOPLE_PER_TASK) {
+                return scoreExposures();
+            }
+            int middle = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(data, from, middle);
+            ScoreTask right = new ScoreTask(data, middle, to);
+            left.fork();
+            double[] scores = right.compute();
+            double[] leftScores = left.join();
+            for (int ordinal = 0; ordinal < scores.length; ordinal++) {
+                scores[ordinal] += leftScores[ordinal];
+            }
+            return scores;
+        }
+
+        private double[] scoreExposures() {
+            double[] scores = new double[data.numberOfPeople];
+            for (int i = from; i < to; i++) {
+                int infectedPersonOrdinal = data.tracedPersonOrdinals[i];
+                int startDay = data.startDays[i];
+                int endDay = data.endDays[i];
+                visitBook.forEachVisitByPerson(infectedPersonOrdinal, (unused, locationOrdinal, epochDay) -> {
+                    if (epochDay < startDay || epochDay > endDay) {
+                        return;
+                    }
+                    double exposureWeight = getRecencyWeight(data.today - epochDay)
+                            * data.locationWeights[locationOrdinal];
+                    visitBook.forEachVisitByLocationOnDay(locationOrdinal, epochDay, (contactOrdinal, unusedLocation,
+                            unusedDay) -> {
+                        if (!data.infectedPersonOrdinals.get(contactOrdinal)) {
+                            scores[contactOrdinal] += exposureWeight;
+                        }
+                    });
+                });
+            }
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * The period around the infection date of a person during which their visits are traced.
+ * Guarantees: immutable; the numbers of days are non-negative.
+ */
+public class ExposureWindow {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of days in an exposure window cannot be negative";
+
+    public static final int DEFAULT_DAYS_BEFORE_INFECTION = 14;
+    public static final int DEFAULT_DAYS_AFTER_INFECTION = 14;
+
+    private final int daysBeforeInfection;
+    private final int daysAfterInfection;
+
+    /**
+     * Constructs an {@code ExposureWindow} with the default numbers of days.
+     */
+    public ExposureWindow() {
+        this(DEFAULT_DAYS_BEFORE_INFECTION, DEFAULT_DAYS_AFTER_INFECTION);
+    }
+
+    /**
+     * Constructs an {@code ExposureWindow} from {@code daysBeforeInfection} before the infection date to
+     * {@code daysAfterInfection} after it.
+     */
+    public ExposureWindow(int daysBeforeInfection, int daysAfterInfection) {
+        checkArgument(daysBeforeInfection >= 0 && daysAfterInfection >= 0, MESSAGE_CONSTRAINTS);
+        this.daysBeforeInfection = daysBeforeInfection;
+        this.daysAfterInfection = daysAfterInfection;
+    }
+
+    public int getDaysBeforeInfection() {
+        return daysBeforeInfection;
+    }
+
+    public int getDaysAfterInfection() {
+        return daysAfterInfection;
+    }
+
+    /**
+     * Returns the first day of the window of a person infected on {@code infectionDate}.
+     */
+    public LocalDate getStartDate(LocalDate infectionDate) {
+        requireNonNull(infectionDate);
+        return infectionDate.minusDays(daysBeforeInfection);
+    }
+
+    /**
+     * Returns the last day of the window of a person infected on {@code infectionDate}, which is never after
+     * {@code today}.
+     */
+    public LocalDate getEndDate(LocalDate infectionDate, LocalDate today) {
+        requireNonNull(infectionDate);
+        requireNonNull(today);
+        LocalDate endDate = infectionDate.plusDays(daysAfterInfection);
+        return endDate.isAfter(today) ? today : endDate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExposureWindow)) { //this handles null as well.
+            return false;
+        }
+
+        ExposureWindow o = (ExposureWindow) other;
+        return daysBeforeInfection == o.daysBeforeInfection
+                && daysAfterInfection == o.daysAfterInfection;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(daysBeforeInfection, daysAfterInfection);
+    }
+
+    @Override
+    public String toString() {
+        return "Days before infection : " + daysBeforeInfection + "\nDays after infection : " + daysAfterInfection;
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.IdDictionary;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Keeps the number of visits by infected persons to each location, and the locations ranked by that number.
+ * The counts are updated incrementally as persons and visits are added, edited or removed in the books,
+ * so the most visited locations can be read without recounting every visit.
+ *
+ * A visit is counted if the person book currently holds an infected person with the visit's person Id.
+ */
+public class HighRiskLocationTracker {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReadOnlyVisitBook visitBook;
+    private final Set<Id> infectedPersonIds = new HashSet<>();
+    // Ties between locations with the same count are broken by the order in which the tracker first saw them.
+    private final IdDictionary locationIds = new IdDictionary();
+    private int[] infectedVisitCounts = new int[INITIAL_CAPACITY];
+    // Rank keys of the locations with at least one infected visit, see rankKey(int, int).
+    private final NavigableSet<Long> rankedLocations = new TreeSet<>();
+
+    /**
+     * Counts the infected visits in {@code visitBook} and keeps the counts up to date with both books.
+     */
+    public HighRiskLocationTracker(ReadOnlyPersonBook personBook, ReadOnlyVisitBook visitBook) {
+        requireAllNonNull(personBook, visitBook);
+        this.visitBook = visitBook;
+
+        infectedPersonIds.addAll(personBook.getInfectedPersonIds());
+        recount();
+
+        personBook.getPersonList().addListener(this::onPersonsChanged);
+        visitBook.getVisitList().addListener(this::onVisitsChanged);
+    }
+
+    /**
+     * Returns the number of locations visited by at least one infected person.
+     */
+    public int getNumberOfInfectedLocations() {
+        return rankedLocations.size();
+    }
+
+    /**
+     * Returns the number of visits by infected persons to the location with {@code locationId}.
+     */
+    public int getInfectedVisitCount(Id locationId) {
+        int ordinal = locationIds.getOrdinal(locationId);
+        return ordinal == IdDictionary.NO_ORDINAL ? 0 : infectedVisitCounts[ordinal];
+    }
+
+    /**
+     * Returns the Ids of up to {@code limit} locations visited by infected persons, in decreasing order of
+     * their number of infected visits.
+     */
+    public List<Id> getLocationIdsByInfectedVisitCount(int limit) {
+        checkArgument(limit >= 0, "Limit cannot be negative");
+        List<Id> ids = new ArrayList<>(Math.min(limit, rankedLocations.size()));
+        Iterator<Long> rankKeys = rankedLocations.iterator();
+        while (ids.size() < limit && rankKeys.hasNext()) {
+            ids.add(locationIds.getId((int) (long) rankKeys.next()));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a key that sorts by decreasing {@code count} first, then by increasing {@code ordinal}.
+     * The ordinal is held in the low 32 bits of the key.
+     */
+    private static long rankKey(int count, int ordinal) {
+        return ((long) (Integer.MAX_VALUE - count) << 32) | ordinal;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            Set<Id> removedInfectedIds = getInfectedIds(change.getRemoved());
+            Set<Id> addedInfectedIds = getInfectedIds(change.getAddedSubList());
+            for (Id id : removedInfectedIds) {
+                if (!addedInfectedIds.contains(id) && infectedPersonIds.remove(id)) {
+                    changeCountsOfVisitsBy(id, -1);
+                }
+            }
+            for (Id id : addedInfectedIds) {
+                if (!removedInfectedIds.contains(id) && infectedPersonIds.add(id)) {
+                    changeCountsOfVisitsBy(id, 1);
+                }
+            }
+        }
+    }
+
+    private void onVisitsChanged(ListChangeListener.Change<? extends Visit> change) {
+        while (change.next()) {
+            if (isWholeListReplaced(change)) {
+                // Recounting gives the locations the same tie order as a freshly loaded visit book.
+                recount();
+                return;
+            }
+            for (Visit visit : change.getRemoved()) {
+                if (infectedPersonIds.contains(visit.getPersonId())) {
+                    changeCount(visit.getLocationId(), -1);
+                }
+            }
+            for (Visit visit : change.getAddedSubList()) {
+                if (infectedPersonIds.contains(visit.getPersonId())) {
+                    changeCount(visit.getLocationId(), 1);
+                }
+            }
+        }
+    }
+
+    private static boolean isWholeListReplaced(ListChangeListener.Change<? extends Visit> change) {
+        return change.wasReplaced() && change.getFrom() == 0 && change.getTo() == change.getList().size();
+    }
+
+    /**
+     * Recounts the infected visits of every location from scratch.
+     */
+    private void recount() {
+        locationIds.clear();
+        infectedVisitCounts = new int[INITIAL_CAPACITY];
+        rankedLocations.clear();
+        for (Visit visit : visitBook.getVisitList()) {
+            if (infectedPersonIds.contains(visit.getPersonId())) {
+                changeCount(visit.getLocationId(), 1);
+            }
+        }
+    }
+
+    private static Set<Id> getInfectedIds(List<? extends Person> persons) {
+        Set<Id> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (person.isInfected()) {
+                ids.add(person.getId());
+            }
+        }
+        return ids;
+    }
+
+    private void changeCountsOfVisitsBy(Id personId, int delta) {
+        for (Visit visit : visitBook.getVisitsByPersonId(personId)) {
+            changeCount(visit.getLocationId(), delta);
+        }
+    }
+
+    private void changeCount(Id locationId, int delta) {
+        int ordinal = locationIds.getOrAddOrdinal(locationId);
+        if (ordinal == infectedVisitCounts.length) {
+            infectedVisitCounts = Arrays.copyOf(infectedVisitCounts, ordinal * 2);
+        }
+        int oldCount = infectedVisitCounts[ordinal];
+        int newCount = oldCount + delta;
+        assert newCount >= 0;
+        if (oldCount > 0) {
+            rankedLocations.remove(rankKey(oldCount, ordinal));
+        }
+        if (newCount > 0) {
+            rankedLocations.add(rankKey(newCount, ordinal));
+        }
+        infectedVisitCounts[ordinal] = newCount;
+    }
+}
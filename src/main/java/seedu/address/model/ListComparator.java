@@ -2,8 +2,11 @@ package seedu.address.model;
 
 import java.util.Comparator;
 
+import seedu.address.model.attribute.Id;
 import seedu.address.model.location.Location;
+import seedu.address.model.location.ReadOnlyLocationBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPersonBook;
 import seedu.address.model.visit.Visit;
 
 /**
@@ -14,7 +17,26 @@ public class ListComparator {
     // Since Person and Location classes are comparable by themselves, we can use their natural order.
     public static final Comparator<Person> SORT_ASCENDING_PERSON_NAME = Comparator.naturalOrder();
     public static final Comparator<Location> SORT_ASCENDING_LOCATION_NAME = Comparator.naturalOrder();
-    public static final Comparator<Visit> SORT_VISITS = Comparator.comparing(Visit::getDate).reversed()
-                                                            .thenComparing(Visit::getPerson)
-                                                            .thenComparing(Visit::getLocation);
+
+    /**
+     * Returns a comparator that sorts visits by descending date, then by person and then by location.
+     * As visits only hold Ids, persons and locations are resolved through the given books.
+     * Visits whose person or location cannot be resolved are sorted after those that can.
+     */
+    public static Comparator<Visit> getVisitComparator(ReadOnlyPersonBook personBook,
+                                                       ReadOnlyLocationBook locationBook) {
+        return Comparator.comparing(Visit::getDate).reversed()
+                .thenComparing(visit -> findPerson(personBook, visit.getPersonId()),
+                        Comparator.nullsLast(SORT_ASCENDING_PERSON_NAME))
+                .thenComparing(visit -> findLocation(locationBook, visit.getLocationId()),
+                        Comparator.nullsLast(SORT_ASCENDING_LOCATION_NAME));
+    }
+
+    private static Person findPerson(ReadOnlyPersonBook personBook, Id id) {
+        return personBook.hasPersonId(id) ? personBook.getPersonById(id) : null;
+    }
+
+    private static Location findLocation(ReadOnlyLocationBook locationBook, Id id) {
+        return locationBook.hasLocationId(id) ? locationBook.getLocationById(id) : null;
+    }
 }
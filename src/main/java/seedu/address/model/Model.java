@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -230,6 +232,12 @@ public interface Model {
      */
     void deleteVisit(Visit visit);
 
+    /**
+     * Deletes all visits that happened on or before {@code date} in one bulk operation.
+     * Returns the deleted visits in ascending order of date.
+     */
+    List<Visit> deleteVisitsOnOrBefore(LocalDate date);
+
     /**
      * Deletes all visits that contains the person as given in the argument
      */
@@ -246,16 +254,6 @@ public interface Model {
      */
     void setVisit(Visit target, Visit editedVisit);
 
-    /**
-     * Update visit book with {@code editedPerson}
-     */
-    void updateVisitBookWithEditedPerson(Person editedPerson);
-
-    /**
-     * Update visit book with {@code editedLocation}
-     */
-    void updateVisitBookWithEditedLocation(Location editedLocation);
-
     /** Returns an unmodifiable view of the filtered and sorted visit list */
     ObservableList<Visit> getSortedVisitList();
 
@@ -269,4 +267,16 @@ public interface Model {
      * Returns the current {@code Predicate} of the filtered visit list
      */
     Optional<Predicate<? super Visit>> getVisitPredicate();
+
+    //=========== InfoHandler =======================================================================================
+
+    /**
+     * Returns the tracker of infected visits per location, kept up to date with the person and visit books.
+     */
+    HighRiskLocationTracker getHighRiskLocationTracker();
+
+    /**
+     * Returns the graph of the contacts between people, kept up to date with the visit book.
+     */
+    ContactGraph getContactGraph();
 }
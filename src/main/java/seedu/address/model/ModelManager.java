@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.ListComparator.SORT_ASCENDING_LOCATION_NAME;
 import static seedu.address.model.ListComparator.SORT_ASCENDING_PERSON_NAME;
-import static seedu.address.model.ListComparator.SORT_VISITS;
+import static seedu.address.model.ListComparator.getVisitComparator;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_LOCATIONS;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_VISITS;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -47,6 +49,9 @@ public class ModelManager implements Model {
     private final SortedList<Person> sortedPersons;
     private final SortedList<Location> sortedLocations;
     private final SortedList<Visit> sortedVisits;
+    private final HighRiskLocationTracker highRiskLocationTracker;
+    private final ContactGraph contactGraph;
+    private Predicate<? super Visit> visitPredicate;
 
     /**
      * Initializes a ModelManager with the given personBook, locationBook, visitBook and userPrefs.
@@ -74,7 +79,10 @@ public class ModelManager implements Model {
         sortedLocations.setComparator(SORT_ASCENDING_LOCATION_NAME);
 
         sortedVisits = new SortedList<>(filteredVisits);
-        sortedVisits.setComparator(SORT_VISITS);
+        sortedVisits.setComparator(getVisitComparator(this.personBook, this.locationBook));
+
+        highRiskLocationTracker = new HighRiskLocationTracker(this.personBook, this.visitBook);
+        contactGraph = new ContactGraph(this.visitBook);
     }
 
     public ModelManager() {
@@ -166,6 +174,9 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         personBook.setPerson(target, editedPerson);
+        if (!target.getName().equals(editedPerson.getName()) || !target.getId().equals(editedPerson.getId())) {
+            refreshVisitList();
+        }
     }
 
     /**
@@ -248,6 +259,9 @@ public class ModelManager implements Model {
     public void setLocation(Location target, Location editedLocation) {
         requireAllNonNull(target, editedLocation);
         locationBook.setLocation(target, editedLocation);
+        if (!target.getName().equals(editedLocation.getName()) || !target.getId().equals(editedLocation.getId())) {
+            refreshVisitList();
+        }
     }
 
     /**
@@ -310,6 +324,12 @@ public class ModelManager implements Model {
         visitBook.removeVisit(visit);
     }
 
+    @Override
+    public List<Visit> deleteVisitsOnOrBefore(LocalDate date) {
+        requireNonNull(date);
+        return visitBook.deleteVisitsOnOrBefore(date);
+    }
+
     @Override
     public void deleteVisitsWithPerson(Person personToDelete) {
         visitBook.deleteVisitsWithPerson(personToDelete);
@@ -332,16 +352,6 @@ public class ModelManager implements Model {
         visitBook.setVisit(target, editedVisit);
     }
 
-    @Override
-    public void updateVisitBookWithEditedPerson(Person editedPerson) {
-        visitBook.updateWithEditedPerson(editedPerson);
-    }
-
-    @Override
-    public void updateVisitBookWithEditedLocation(Location editedLocation) {
-        visitBook.updateWithEditedLocation(editedLocation);
-    }
-
     /**
      * Returns an unmodifiable view of the list of {@code Visit}.
      */
@@ -353,16 +363,40 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredVisitList(Predicate<? super Visit> predicate) {
         requireNonNull(predicate);
+        visitPredicate = predicate;
         filteredVisits.setPredicate(predicate);
     }
 
     @Override
     public Optional<Predicate<? super Visit>> getVisitPredicate() {
-        return Optional.ofNullable(filteredVisits.getPredicate());
+        return Optional.ofNullable(visitPredicate);
+    }
+
+    /**
+     * Re-applies the current visit predicate and comparator to the visit list.
+     * Visits only refer to persons and locations by Id, so an edited person or location does not change the
+     * visit book; this re-sorts and re-renders the displayed visits with a single list change instead.
+     * The visits are only sorted and shown by the names and Ids of their persons and locations, so this is only
+     * needed when an edit changes one of those.
+     */
+    private void refreshVisitList() {
+        Predicate<? super Visit> currentPredicate = getVisitPredicate().orElse(PREDICATE_SHOW_ALL_VISITS);
+        // A new predicate instance is needed for the filtered list to re-evaluate its source.
+        filteredVisits.setPredicate(visit -> currentPredicate.test(visit));
     }
 
     //=========== InfoHandler ====================================================================================
 
+    @Override
+    public HighRiskLocationTracker getHighRiskLocationTracker() {
+        return highRiskLocationTracker;
+    }
+
+    @Override
+    public ContactGraph getContactGraph() {
+        return contactGraph;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
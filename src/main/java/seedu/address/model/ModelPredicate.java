@@ -1,12 +1,10 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.attribute.Id;
 import seedu.address.model.location.Location;
@@ -31,72 +29,48 @@ public class ModelPredicate {
     public static final Predicate<Person> PREDICATE_SHOW_ALL_INFECTED = Person::isInfected;
     public static final Predicate<Person> PREDICATE_SHOW_ALL_QUARANTINED = Person::isQuarantined;
 
-    /** {@code Predicate} for filtering out the infected visits from all visits */
-    public static Predicate<Visit> getPredicateForInfectedVisits(HashSet<Id> infectedIds) {
-        return visit -> infectedIds.contains(visit.getPerson().getId());
-    }
-
     /**
      * {@code Predicate} for filtering high risk locations
      * If user does not specify the number of high risk locations, then -1 is passed in
      * for {@code highRiskLocationNumber} as argument.
+     * The infected locations are read from the model's {@code HighRiskLocationTracker}, so the filtered lists of
+     * the model are left unchanged.
      */
     public static Predicate<Location> getPredicateForHighRiskLocations(Model model, boolean userSpecified,
                                                                        int highRiskLocationNumber)
             throws CommandException {
-        Optional<Predicate<? super Person>> lastUsedPersonPredicate = model.getPersonPredicate();
-        Optional<Predicate<? super Visit>> lastUsedVisitPredicate = model.getVisitPredicate();
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_INFECTED);
-        ObservableList<Person> allInfectedPersons = model.getSortedPersonList();
-
-        HashSet<Id> infectedPersonIds = InfoHandler.getIdHashSetFromPersonsList(allInfectedPersons);
-
-        model.updateFilteredVisitList(getPredicateForInfectedVisits(infectedPersonIds));
-        ObservableList<Visit> allInfectedVisits = model.getSortedVisitList();
-
-        ArrayList<Id> infectedLocationIds = InfoHandler.getLocationIdsFromInfectedVisitList(allInfectedVisits);
+        HighRiskLocationTracker tracker = model.getHighRiskLocationTracker();
+        int numberOfInfectedLocations = tracker.getNumberOfInfectedLocations();
 
-        if (highRiskLocationNumber > infectedLocationIds.size()) {
-            // Restore back the filterPersonList predicate and filterVisitList predicate before throwing exception
-            model.updateFilteredPersonList(lastUsedPersonPredicate.orElse(PREDICATE_SHOW_ALL_PERSONS));
-            model.updateFilteredVisitList(lastUsedVisitPredicate.orElse(PREDICATE_SHOW_ALL_VISITS));
-            throw new CommandException(String.format(INVALID_HIGH_RISK_LOCATIONS_NUMBER, infectedLocationIds.size()));
+        if (highRiskLocationNumber > numberOfInfectedLocations) {
+            throw new CommandException(String.format(INVALID_HIGH_RISK_LOCATIONS_NUMBER, numberOfInfectedLocations));
         }
 
-        model.updateFilteredLocationList(PREDICATE_SHOW_ALL_LOCATIONS);
-        int numberOfTotalLocations = model.getSortedLocationList().size();
+        int numberOfTotalLocations = model.getLocationBook().getLocationList().size();
         int numberOfHighRiskLocations = userSpecified ? highRiskLocationNumber
-            : InfoHandler.getNumberOfHighRiskLocations(infectedLocationIds.size(), numberOfTotalLocations);
+            : InfoHandler.getNumberOfHighRiskLocations(numberOfInfectedLocations, numberOfTotalLocations);
 
-        ArrayList<Id> highRiskLocationIds =
-                new ArrayList<>(infectedLocationIds.subList(0, numberOfHighRiskLocations));
-
-        // Restore back the filterPersonList predicate and filterVisitList predicate
-        model.updateFilteredPersonList(lastUsedPersonPredicate.orElse(PREDICATE_SHOW_ALL_PERSONS));
-        model.updateFilteredVisitList(lastUsedVisitPredicate.orElse(PREDICATE_SHOW_ALL_VISITS));
+        Set<Id> highRiskLocationIds =
+                new HashSet<>(tracker.getLocationIdsByInfectedVisitCount(numberOfHighRiskLocations));
 
         return location -> highRiskLocationIds.contains(location.getId());
     }
 
-    /** {@code Predicate} to generate a predicate for whether a person's Id is included in the list of person Ids  */
-    public static Predicate<Person> getPredicateShowPeopleById(List<Id> personIds) {
-        return person -> {
-            boolean isIncluded = person.getId().equals(personIds.get(0));
-            for (int i = 1; i < personIds.size(); i++) {
-                isIncluded = isIncluded || person.getId().equals(personIds.get(i));
-            }
-            return isIncluded;
-        };
+    /**
+     * {@code Predicate} for whether a person's Id is one of {@code personIds}.
+     * The Ids are copied into a hash set up front, so duplicates are dropped and each test is a single lookup.
+     */
+    public static Predicate<Person> getPredicateShowPeopleById(Collection<Id> personIds) {
+        Set<Id> ids = new HashSet<>(personIds);
+        return person -> ids.contains(person.getId());
     }
 
-    /** {@code Predicate} to generate predicate for whether a location's Id is included in the list of location Ids */
-    public static Predicate<Location> getPredicateShowLocationsById(List<Id> locationIds) {
-        return location -> {
-            boolean isIncluded = location.getId().equals(locationIds.get(0));
-            for (int i = 1; i < locationIds.size(); i++) {
-                isIncluded = isIncluded || location.getId().equals(locationIds.get(i));
-            }
-            return isIncluded;
-        };
+    /**
+     * {@code Predicate} for whether a location's Id is one of {@code locationIds}.
+     * The Ids are copied into a hash set up front, so duplicates are dropped and each test is a single lookup.
+     */
+    public static Predicate<Location> getPredicateShowLocationsById(Collection<Id> locationIds) {
+        Set<Id> ids = new HashSet<>(locationIds);
+        return location -> ids.contains(location.getId());
     }
 }
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.InfoHandler.INVALID_RATIO;
+
+import java.util.Objects;
+
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+
+/**
+ * An immutable snapshot of the counts shown by the statistics list.
+ * Guarantees: all counts are taken from the same state of the books.
+ */
+public class Statistics {
+
+    private final int totalPeople;
+    private final int totalLocations;
+    private final int totalVisits;
+    private final int totalInfected;
+    private final int totalQuarantined;
+
+    /**
+     * Every count must be non-negative.
+     */
+    public Statistics(int totalPeople, int totalLocations, int totalVisits, int totalInfected,
+                      int totalQuarantined) {
+        this.totalPeople = totalPeople;
+        this.totalLocations = totalLocations;
+        this.totalVisits = totalVisits;
+        this.totalInfected = totalInfected;
+        this.totalQuarantined = totalQuarantined;
+    }
+
+    /**
+     * Takes a snapshot of the given books.
+     * Only reads their sizes and maintained counters, so no list is scanned or filtered.
+     */
+    public static Statistics of(ReadOnlyPersonBook personBook, ReadOnlyLocationBook locationBook,
+                                ReadOnlyVisitBook visitBook) {
+        requireAllNonNull(personBook, locationBook, visitBook);
+        return new Statistics(personBook.getPersonList().size(), locationBook.getLocationList().size(),
+                visitBook.getVisitList().size(), personBook.getInfectedPersonIds().size(),
+                personBook.getQuarantinedPersonIds().size());
+    }
+
+    public int getTotalPeople() {
+        return totalPeople;
+    }
+
+    public int getTotalLocations() {
+        return totalLocations;
+    }
+
+    public int getTotalVisits() {
+        return totalVisits;
+    }
+
+    public int getTotalInfected() {
+        return totalInfected;
+    }
+
+    public int getTotalQuarantined() {
+        return totalQuarantined;
+    }
+
+    /**
+     * Returns the ratio of infected people to all people, or {@code INVALID_RATIO} if there are no people.
+     */
+    public double getInfectedOverPeople() {
+        return getRatio(totalInfected, totalPeople);
+    }
+
+    /**
+     * Returns the ratio of quarantined people to all people, or {@code INVALID_RATIO} if there are no people.
+     */
+    public double getQuarantinedOverPeople() {
+        return getRatio(totalQuarantined, totalPeople);
+    }
+
+    private static double getRatio(int count, int total) {
+        // Check if dividing by zero
+        if (total == 0) {
+            return INVALID_RATIO;
+        }
+        return (double) count / total;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Statistics)) {
+            return false;
+        }
+        Statistics otherStatistics = (Statistics) other;
+        return totalPeople == otherStatistics.totalPeople
+                && totalLocations == otherStatistics.totalLocations
+                && totalVisits == otherStatistics.totalVisits
+                && totalInfected == otherStatistics.totalInfected
+                && totalQuarantined == otherStatistics.totalQuarantined;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalPeople, totalLocations, totalVisits, totalInfected, totalQuarantined);
+    }
+}
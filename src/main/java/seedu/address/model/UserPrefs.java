@@ -17,6 +17,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path personBookFilePath = Paths.get("data" , "personbook.json");
     private Path locationBookFilePath = Paths.get("data", "locationbook.json");
     private Path visitBookFilePath = Paths.get("data", "visitbook.json");
+    private ExposureWindow exposureWindow = new ExposureWindow();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setPersonBookFilePath(newUserPrefs.getPersonBookFilePath());
         setLocationBookFilePath(newUserPrefs.getLocationBookFilePath());
         setVisitBookFilePath(newUserPrefs.getVisitBookFilePath());
+        setExposureWindow(newUserPrefs.getExposureWindow());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +80,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.visitBookFilePath = visitBookFilePath;
     }
 
+    public ExposureWindow getExposureWindow() {
+        return exposureWindow;
+    }
+
+    public void setExposureWindow(ExposureWindow exposureWindow) {
+        requireNonNull(exposureWindow);
+        this.exposureWindow = exposureWindow;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +103,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && personBookFilePath.equals(o.personBookFilePath)
                 && locationBookFilePath.equals(o.locationBookFilePath)
-                && visitBookFilePath.equals(o.visitBookFilePath);
+                && visitBookFilePath.equals(o.visitBookFilePath)
+                && exposureWindow.equals(o.exposureWindow);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, personBookFilePath, locationBookFilePath, visitBookFilePath);
+        return Objects.hash(guiSettings, personBookFilePath, locationBookFilePath, visitBookFilePath,
+                exposureWindow);
     }
 
     @Override
@@ -107,6 +120,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal person data file location : " + personBookFilePath);
         sb.append("\nLocal location data file location : " + locationBookFilePath);
         sb.append("\nLocal visit data file location : " + visitBookFilePath);
+        sb.append("\nExposure window : " + exposureWindow);
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.address.model.attribute;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an address that belongs to either a {@code #Person} or {@code Location}.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,8 +19,19 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> INTERNER = new Interner<>();
+
     public final String value;
 
+    /**
+     * Returns the canonical {@code Address} for {@code address}.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(new Address(address));
+    }
+
     /**
      * Constructs an {@code Address}.
      *
@@ -3,6 +3,8 @@ package seedu.address.model.attribute;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's email in the tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -30,8 +32,19 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_BEFORE_PERIOD_REGEX + DOMAIN_AFTER_PERIOD_REGEX;
 
+    private static final Interner<Email> INTERNER = new Interner<>();
+
     public final String value;
 
+    /**
+     * Returns the canonical {@code Email} for {@code email}.
+     *
+     * @param email A valid email address.
+     */
+    public static Email of(String email) {
+        return INTERNER.intern(new Email(email));
+    }
+
     /**
      * Constructs an {@code Email}.
      *
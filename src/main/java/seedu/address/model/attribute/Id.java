@@ -3,6 +3,8 @@ package seedu.address.model.attribute;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents an Id that uniquely identifies either a {@code #Person} or {@code Location}.
  * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
@@ -18,8 +20,19 @@ public class Id implements Comparable<Id> {
      */
     public static final String VALIDATION_REGEX = ".{5,}";
 
+    private static final Interner<Id> INTERNER = new Interner<>();
+
     public final String value;
 
+    /**
+     * Returns the canonical {@code Id} for {@code id}.
+     *
+     * @param id A valid Id.
+     */
+    public static Id of(String id) {
+        return INTERNER.intern(new Id(id));
+    }
+
     /**
      * Constructs an {@code Id}.
      *
@@ -0,0 +1,63 @@
+package seedu.address.model.attribute;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns each distinct {@code Id} a dense int ordinal, starting from 0 in the order the Ids are first seen.
+ * Lets large collections refer to persons and locations by an int instead of by an object reference, and
+ * lets lookups, joins and set membership tests over Ids use int keys and primitive collections.
+ * The first instance of each Id is kept and shared by everything that is decoded from the dictionary.
+ * Ordinals are never reused until the dictionary is cleared.
+ */
+public class IdDictionary implements ReadOnlyIdDictionary {
+
+    /** Returned by {@link #getOrdinal(Id)} for an Id that has no ordinal. */
+    public static final int NO_ORDINAL = -1;
+
+    private final Map<Id, Integer> idToOrdinal = new HashMap<>();
+    private final List<Id> ordinalToId = new ArrayList<>();
+
+    /**
+     * Returns the ordinal of {@code id}, assigning it the next free ordinal if it does not have one yet.
+     */
+    public int getOrAddOrdinal(Id id) {
+        requireNonNull(id);
+        Integer ordinal = idToOrdinal.get(id);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int newOrdinal = ordinalToId.size();
+        idToOrdinal.put(id, newOrdinal);
+        ordinalToId.add(id);
+        return newOrdinal;
+    }
+
+    @Override
+    public int getOrdinal(Id id) {
+        requireNonNull(id);
+        return idToOrdinal.getOrDefault(id, NO_ORDINAL);
+    }
+
+    @Override
+    public Id getId(int ordinal) {
+        return ordinalToId.get(ordinal);
+    }
+
+    @Override
+    public int size() {
+        return ordinalToId.size();
+    }
+
+    /**
+     * Removes all Ids, so that ordinals are assigned from 0 again.
+     */
+    public void clear() {
+        idToOrdinal.clear();
+        ordinalToId.clear();
+    }
+}
@@ -8,6 +8,9 @@ import java.time.format.DateTimeParseException;
 import java.util.Objects;
 import java.util.Optional;
 
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's infection status in the tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidInfectionStatus(String)}
@@ -26,9 +29,20 @@ public class InfectionStatus {
      */
     public static final String VALIDATION_REGEX = "(?i)(false)";
 
+    private static final Interner<InfectionStatus> INTERNER = new Interner<>();
+
     private final boolean isInfected;
     private final Optional<LocalDate> infectionDate;
 
+    /**
+     * Returns the canonical {@code InfectionStatus} for {@code infectionStatus}.
+     *
+     * @param infectionStatus A valid infection status.
+     */
+    public static InfectionStatus of(String infectionStatus) {
+        return INTERNER.intern(new InfectionStatus(infectionStatus));
+    }
+
     /**
      * Constructs an {@code InfectionStatus}.
      *
@@ -42,7 +56,7 @@ public class InfectionStatus {
             infectionDate = Optional.empty();
         } else {
             isInfected = true;
-            LocalDate date = LocalDate.parse(infectionStatus);
+            LocalDate date = DateUtil.intern(LocalDate.parse(infectionStatus));
             infectionDate = Optional.of(date);
         }
     }
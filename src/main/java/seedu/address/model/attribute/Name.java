@@ -3,6 +3,8 @@ package seedu.address.model.attribute;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a name that belongs to either a {@code #Person} or {@code Location}.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,8 +20,19 @@ public class Name implements Comparable<Name> {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Name> INTERNER = new Interner<>();
+
     public final String fullName;
 
+    /**
+     * Returns the canonical {@code Name} for {@code name}.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return INTERNER.intern(new Name(name));
+    }
+
     /**
      * Constructs a {@code Name}.
      *
@@ -0,0 +1,81 @@
+package seedu.address.model.attribute;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the case-folded words of the {@code Name} of each named entity, looked up by Id.
+ * Each name is split into words once, when it is added, so matching it against keywords does not split it again.
+ */
+public class NameTokenIndex {
+
+    /** Marks a keyword that matches every word starting with the rest of the keyword. */
+    public static final String PREFIX_WILDCARD = "*";
+
+    private final Map<Id, Set<String>> idToTokens = new HashMap<>();
+
+    /**
+     * Indexes the words of {@code name} under {@code id}, replacing any name indexed under it.
+     */
+    public void add(Name name, Id id) {
+        requireNonNull(id);
+        idToTokens.put(id, getTokens(name));
+    }
+
+    /**
+     * Removes the name indexed under {@code id}.
+     */
+    public void remove(Id id) {
+        requireNonNull(id);
+        idToTokens.remove(id);
+    }
+
+    public void clear() {
+        idToTokens.clear();
+    }
+
+    /**
+     * Returns true if the name indexed under {@code id} contains any of {@code keywords} as a full word, ignoring
+     * case. A keyword ending with {@link #PREFIX_WILDCARD} matches any word starting with the rest of the keyword
+     * instead. Only the words of that name are looked at, so the check does not depend on the number of names.
+     */
+    public boolean matchesAnyKeyword(Id id, List<String> keywords) {
+        requireNonNull(id);
+        requireNonNull(keywords);
+        Set<String> tokens = idToTokens.getOrDefault(id, Set.of());
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            if (!trimmedKeyword.endsWith(PREFIX_WILDCARD)) {
+                if (tokens.contains(fold(trimmedKeyword))) {
+                    return true;
+                }
+                continue;
+            }
+            String foldedPrefix = fold(trimmedKeyword.substring(0,
+                    trimmedKeyword.length() - PREFIX_WILDCARD.length()));
+            if (!foldedPrefix.isEmpty() && tokens.stream().anyMatch(token -> token.startsWith(foldedPrefix))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> getTokens(Name name) {
+        requireNonNull(name);
+        Set<String> tokens = new HashSet<>();
+        for (String word : name.fullName.split("\\s+")) {
+            tokens.add(fold(word));
+        }
+        return tokens;
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
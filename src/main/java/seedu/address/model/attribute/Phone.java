@@ -3,6 +3,8 @@ package seedu.address.model.attribute;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's phone number in the tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,8 +14,19 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long.";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final Interner<Phone> INTERNER = new Interner<>();
+
     public final String value;
 
+    /**
+     * Returns the canonical {@code Phone} for {@code phone}.
+     *
+     * @param phone A valid phone number.
+     */
+    public static Phone of(String phone) {
+        return INTERNER.intern(new Phone(phone));
+    }
+
     /**
      * Constructs a {@code Phone}.
      *
@@ -8,6 +8,9 @@ import java.time.format.DateTimeParseException;
 import java.util.Objects;
 import java.util.Optional;
 
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's quarantine status in the tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidQuarantineStatus(String)}
@@ -26,9 +29,20 @@ public class QuarantineStatus {
      */
     public static final String VALIDATION_REGEX = "(?i)(false)";
 
+    private static final Interner<QuarantineStatus> INTERNER = new Interner<>();
+
     public final boolean isQuarantined;
     public final Optional<LocalDate> quarantineDate;
 
+    /**
+     * Returns the canonical {@code QuarantineStatus} for {@code quarantineStatus}.
+     *
+     * @param quarantineStatus A valid quarantine status.
+     */
+    public static QuarantineStatus of(String quarantineStatus) {
+        return INTERNER.intern(new QuarantineStatus(quarantineStatus));
+    }
+
     /**
      * Constructs a {@code QuarantineStatus}.
      *
@@ -42,7 +56,7 @@ public class QuarantineStatus {
             quarantineDate = Optional.empty();
         } else {
             isQuarantined = true;
-            LocalDate date = LocalDate.parse(quarantineStatus);
+            LocalDate date = DateUtil.intern(LocalDate.parse(quarantineStatus));
             quarantineDate = Optional.of(date);
         }
     }
@@ -0,0 +1,25 @@
+package seedu.address.model.attribute;
+
+/**
+ * Unmodifiable view of an Id dictionary.
+ */
+public interface ReadOnlyIdDictionary {
+
+    /**
+     * Returns the ordinal of {@code id}, or {@link IdDictionary#NO_ORDINAL} if it does not have one.
+     */
+    int getOrdinal(Id id);
+
+    /**
+     * Returns the Id with the given {@code ordinal}.
+     *
+     * @throws IndexOutOfBoundsException if no Id has the given ordinal.
+     */
+    Id getId(int ordinal);
+
+    /**
+     * Returns the number of ordinals assigned so far.
+     * Every ordinal is at least 0 and less than this number.
+     */
+    int size();
+}
@@ -65,21 +65,22 @@ public class LocationBook implements ReadOnlyLocationBook {
         return locations.contains(location);
     }
 
-    /**
-     * Returns true if a location with the given {@code id} exists in the location book.
-     */
+    @Override
     public boolean hasLocationId(Id id) {
         requireNonNull(id);
         return locations.containsLocationId(id);
     }
 
-    /**
-     * Returns a Location with the given Id from the location book.
-     */
+    @Override
     public Location getLocationById(Id id) {
         return locations.getLocationById(id);
     }
 
+    @Override
+    public boolean hasNameMatchingKeywords(Id id, List<String> keywords) {
+        return locations.hasNameMatchingKeywords(id, keywords);
+    }
+
     /**
      * Adds a location to the location book.
      * The location must not already exist in the location book.
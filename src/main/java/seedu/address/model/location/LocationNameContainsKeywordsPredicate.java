@@ -1,24 +1,59 @@
 package seedu.address.model.location;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.attribute.NameTokenIndex;
 
 /**
  * Tests that a {@code Location}'s {@code Name} matches any of the keywords given.
+ * A keyword ending with {@code *} matches any word of the name that starts with the rest of the keyword.
  */
 public class LocationNameContainsKeywordsPredicate implements Predicate<Location> {
     private final List<String> keywords;
+    // The location book whose name index is looked up, or null if the names are matched directly.
+    private final ReadOnlyLocationBook locationBook;
 
     public LocationNameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private LocationNameContainsKeywordsPredicate(List<String> keywords, ReadOnlyLocationBook locationBook) {
         this.keywords = keywords;
+        this.locationBook = locationBook;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that looks up the words of a location's name in the name index of
+     * {@code locationBook}, instead of splitting the name. It must only be tested on locations in
+     * {@code locationBook}.
+     */
+    public LocationNameContainsKeywordsPredicate withNameIndexOf(ReadOnlyLocationBook locationBook) {
+        requireNonNull(locationBook);
+        return new LocationNameContainsKeywordsPredicate(keywords, locationBook);
     }
 
     @Override
     public boolean test(Location location) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(location.getName().fullName, keyword));
+        if (locationBook != null) {
+            return locationBook.hasNameMatchingKeywords(location.getId(), keywords);
+        }
+        return keywords.stream().anyMatch(keyword -> matches(location.getName().fullName, keyword.trim()));
+    }
+
+    private static boolean matches(String name, String keyword) {
+        if (keyword.endsWith(NameTokenIndex.PREFIX_WILDCARD)) {
+            String prefix = keyword.substring(0, keyword.length() - NameTokenIndex.PREFIX_WILDCARD.length());
+            return !prefix.isBlank() && StringUtil.containsWordStartingWithIgnoreCase(name, prefix);
+        }
+        return StringUtil.containsWordIgnoreCase(name, keyword);
     }
 
     @Override
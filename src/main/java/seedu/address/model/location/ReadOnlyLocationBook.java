@@ -1,6 +1,9 @@
 package seedu.address.model.location;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.attribute.Id;
 
 /**
  * Unmodifiable view of a location book
@@ -13,4 +16,21 @@ public interface ReadOnlyLocationBook {
      */
     ObservableList<Location> getLocationList();
 
+    /**
+     * Returns true if a location with the given {@code id} exists in the location book.
+     */
+    boolean hasLocationId(Id id);
+
+    /**
+     * Returns the location with the given {@code id}.
+     * The location must exist in the location book.
+     */
+    Location getLocationById(Id id);
+
+    /**
+     * Returns true if the name of the location with {@code id} contains any of the given {@code keywords} as a full
+     * word, ignoring case. A keyword ending with {@code *} matches words by prefix instead.
+     */
+    boolean hasNameMatchingKeywords(Id id, List<String> keywords);
+
 }
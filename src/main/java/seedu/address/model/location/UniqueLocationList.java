@@ -3,13 +3,18 @@ package seedu.address.model.location;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.attribute.Address;
 import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.NameTokenIndex;
 import seedu.address.model.location.exceptions.DuplicateLocationException;
 import seedu.address.model.location.exceptions.LocationNotFoundException;
 import seedu.address.model.location.exceptions.LocationNotIdentifiableException;
@@ -31,6 +36,10 @@ public class UniqueLocationList implements Iterable<Location> {
     private final ObservableList<Location> internalList = FXCollections.observableArrayList();
     private final ObservableList<Location> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Indexes over the locations in internalList, kept in sync with every modification of internalList.
+    // They are updated before internalList, so that listeners of internalList see the indexes of the new locations.
+    private final Map<Id, Location> idToLocation = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
 
     /**
      * Returns true if the list contains an equivalent location as the given argument.
@@ -45,7 +54,7 @@ public class UniqueLocationList implements Iterable<Location> {
      */
     public boolean containsLocationId(Id id) {
         requireNonNull(id);
-        return internalList.stream().anyMatch(l -> l.getId().equals(id));
+        return idToLocation.containsKey(id);
     }
 
     /**
@@ -54,12 +63,21 @@ public class UniqueLocationList implements Iterable<Location> {
      */
     public Location getLocationById(Id id) {
         requireNonNull(id);
-        Optional<Location> location = internalList.stream().filter(l -> l.getId().equals(id)).findAny();
-        if (location.isEmpty()) {
+        Location location = idToLocation.get(id);
+        if (location == null) {
             throw new LocationNotFoundException();
-        } else {
-            return location.get();
         }
+        return location;
+    }
+
+    /**
+     * Returns true if the name of the location with {@code id} contains any of the given {@code keywords} as a full
+     * word, ignoring case. A keyword ending with {@link NameTokenIndex#PREFIX_WILDCARD} matches words by prefix
+     * instead.
+     */
+    public boolean hasNameMatchingKeywords(Id id, List<String> keywords) {
+        requireAllNonNull(id, keywords);
+        return nameTokenIndex.matchesAnyKeyword(id, keywords);
     }
 
     /**
@@ -75,6 +93,7 @@ public class UniqueLocationList implements Iterable<Location> {
         if (containsLocationId(toAdd.getId())) {
             throw new LocationNotIdentifiableException();
         }
+        addToIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -99,6 +118,8 @@ public class UniqueLocationList implements Iterable<Location> {
             throw new LocationNotIdentifiableException();
         }
 
+        removeFromIndexes(target);
+        addToIndexes(editedLocation);
         internalList.set(index, editedLocation);
     }
 
@@ -111,10 +132,12 @@ public class UniqueLocationList implements Iterable<Location> {
         if (!internalList.remove(toRemove)) {
             throw new LocationNotFoundException();
         }
+        removeFromIndexes(toRemove);
     }
 
     public void setLocations(UniqueLocationList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -126,6 +149,7 @@ public class UniqueLocationList implements Iterable<Location> {
         requireAllNonNull(locations);
         checkLocations(locations);
 
+        rebuildIndexes(locations);
         internalList.setAll(locations);
     }
 
@@ -135,18 +159,34 @@ public class UniqueLocationList implements Iterable<Location> {
      * @throws LocationNotIdentifiableException if there are locations with duplicate Ids.
      */
     private void checkLocations(List<Location> locations) {
-        for (int i = 0; i < locations.size() - 1; i++) {
-            for (int j = i + 1; j < locations.size(); j++) {
-                if (locations.get(i).isSameLocation(locations.get(j))) {
-                    throw new DuplicateLocationException();
-                }
-                if (locations.get(i).isSameId(locations.get(j))) {
-                    throw new LocationNotIdentifiableException();
-                }
+        Set<Address> addresses = new HashSet<>();
+        Set<Id> ids = new HashSet<>();
+        for (Location location : locations) {
+            if (!addresses.add(location.getAddress())) {
+                throw new DuplicateLocationException();
+            }
+            if (!ids.add(location.getId())) {
+                throw new LocationNotIdentifiableException();
             }
         }
     }
 
+    private void addToIndexes(Location location) {
+        idToLocation.put(location.getId(), location);
+        nameTokenIndex.add(location.getName(), location.getId());
+    }
+
+    private void removeFromIndexes(Location location) {
+        idToLocation.remove(location.getId(), location);
+        nameTokenIndex.remove(location.getId());
+    }
+
+    private void rebuildIndexes(List<Location> locations) {
+        idToLocation.clear();
+        nameTokenIndex.clear();
+        locations.forEach(this::addToIndexes);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
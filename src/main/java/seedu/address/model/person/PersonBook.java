@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.attribute.Id;
@@ -65,21 +66,32 @@ public class PersonBook implements ReadOnlyPersonBook {
         return persons.contains(person);
     }
 
-    /**
-     * Returns true if a person with the given {@code id} exists in the person book.
-     */
+    @Override
     public boolean hasPersonId(Id id) {
         requireNonNull(id);
         return persons.containsPersonId(id);
     }
 
-    /**
-     * Returns a Person with the given Id from the person book.
-     */
+    @Override
     public Person getPersonById(Id id) {
         return persons.getPersonById(id);
     }
 
+    @Override
+    public boolean hasNameMatchingKeywords(Id id, List<String> keywords) {
+        return persons.hasNameMatchingKeywords(id, keywords);
+    }
+
+    @Override
+    public Set<Id> getInfectedPersonIds() {
+        return persons.getInfectedPersonIds();
+    }
+
+    @Override
+    public Set<Id> getQuarantinedPersonIds() {
+        return persons.getQuarantinedPersonIds();
+    }
+
     /**
      * Adds a person to the person book.
      * The person must not already exist in the person book.
@@ -1,24 +1,60 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.attribute.NameTokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword ending with {@code *} matches any word of the name that starts with the rest of the keyword.
  */
 public class PersonNameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    // The person book whose name index is looked up, or null if the names are matched directly.
+    private final ReadOnlyPersonBook personBook;
 
     public PersonNameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private PersonNameContainsKeywordsPredicate(List<String> keywords, ReadOnlyPersonBook personBook) {
         this.keywords = keywords;
+        this.personBook = personBook;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns a predicate with the same keywords that looks up the words of a person's name in the name index of
+     * {@code personBook}, instead of splitting the name. It must only be tested on persons in {@code personBook}.
+     * The index is kept up to date with {@code personBook}, so added and edited persons are matched by their
+     * current names.
+     */
+    public PersonNameContainsKeywordsPredicate withNameIndexOf(ReadOnlyPersonBook personBook) {
+        requireNonNull(personBook);
+        return new PersonNameContainsKeywordsPredicate(keywords, personBook);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        if (personBook != null) {
+            return personBook.hasNameMatchingKeywords(person.getId(), keywords);
+        }
+        return keywords.stream().anyMatch(keyword -> matches(person.getName().fullName, keyword.trim()));
+    }
+
+    private static boolean matches(String name, String keyword) {
+        if (keyword.endsWith(NameTokenIndex.PREFIX_WILDCARD)) {
+            String prefix = keyword.substring(0, keyword.length() - NameTokenIndex.PREFIX_WILDCARD.length());
+            return !prefix.isBlank() && StringUtil.containsWordStartingWithIgnoreCase(name, prefix);
+        }
+        return StringUtil.containsWordIgnoreCase(name, keyword);
     }
 
     @Override
@@ -1,6 +1,10 @@
 package seedu.address.model.person;
 
+import java.util.List;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.attribute.Id;
 
 /**
  * Unmodifiable view of a person book
@@ -13,4 +17,31 @@ public interface ReadOnlyPersonBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns true if a person with the given {@code id} exists in the person book.
+     */
+    boolean hasPersonId(Id id);
+
+    /**
+     * Returns the person with the given {@code id}.
+     * The person must exist in the person book.
+     */
+    Person getPersonById(Id id);
+
+    /**
+     * Returns true if the name of the person with {@code id} contains any of the given {@code keywords} as a full
+     * word, ignoring case. A keyword ending with {@code *} matches words by prefix instead.
+     */
+    boolean hasNameMatchingKeywords(Id id, List<String> keywords);
+
+    /**
+     * Returns an unmodifiable view of the Ids of the infected persons, kept up to date with the person book.
+     */
+    Set<Id> getInfectedPersonIds();
+
+    /**
+     * Returns an unmodifiable view of the Ids of the quarantined persons, kept up to date with the person book.
+     */
+    Set<Id> getQuarantinedPersonIds();
+
 }
@@ -3,13 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.NameTokenIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.PersonNotIdentifiableException;
@@ -32,12 +37,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Indexes over the persons in internalList, kept in sync with every modification of internalList.
+    // They are updated before internalList, so that listeners of internalList see the indexes of the new persons.
+    // The identity indexes are keyed by (name, phone) and (name, email), mirroring Person#isSamePerson(Person).
+    private final Map<Id, Person> idToPerson = new HashMap<>();
+    private final Map<List<Object>, Person> nameAndPhoneToPerson = new HashMap<>();
+    private final Map<List<Object>, Person> nameAndEmailToPerson = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    // Partitions of the persons by status, so that they can be counted without scanning internalList.
+    private final Set<Id> infectedIds = new HashSet<>();
+    private final Set<Id> quarantinedIds = new HashSet<>();
+    private final Set<Id> unmodifiableInfectedIds = Collections.unmodifiableSet(infectedIds);
+    private final Set<Id> unmodifiableQuarantinedIds = Collections.unmodifiableSet(quarantinedIds);
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameAndPhoneToPerson.containsKey(getNameAndPhone(toCheck))
+                || nameAndEmailToPerson.containsKey(getNameAndEmail(toCheck));
     }
 
     /**
@@ -45,7 +64,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPersonId(Id id) {
         requireNonNull(id);
-        return internalList.stream().anyMatch(p -> p.getId().equals(id));
+        return idToPerson.containsKey(id);
     }
 
     /**
@@ -54,12 +73,35 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person getPersonById(Id id) {
         requireNonNull(id);
-        Optional<Person> person = internalList.stream().filter(p -> p.getId().equals(id)).findAny();
-        if (person.isEmpty()) {
+        Person person = idToPerson.get(id);
+        if (person == null) {
             throw new PersonNotFoundException();
-        } else {
-            return person.get();
         }
+        return person;
+    }
+
+    /**
+     * Returns true if the name of the person with {@code id} contains any of the given {@code keywords} as a full
+     * word, ignoring case. A keyword ending with {@link NameTokenIndex#PREFIX_WILDCARD} matches words by prefix
+     * instead.
+     */
+    public boolean hasNameMatchingKeywords(Id id, List<String> keywords) {
+        requireAllNonNull(id, keywords);
+        return nameTokenIndex.matchesAnyKeyword(id, keywords);
+    }
+
+    /**
+     * Returns an unmodifiable view of the Ids of the infected persons in the list.
+     */
+    public Set<Id> getInfectedPersonIds() {
+        return unmodifiableInfectedIds;
+    }
+
+    /**
+     * Returns an unmodifiable view of the Ids of the quarantined persons in the list.
+     */
+    public Set<Id> getQuarantinedPersonIds() {
+        return unmodifiableQuarantinedIds;
     }
 
     /**
@@ -75,6 +117,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (containsPersonId(toAdd.getId())) {
             throw new PersonNotIdentifiableException();
         }
+        addToIndexes(toAdd);
         internalList.add(toAdd);
     }
 
@@ -99,6 +142,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotIdentifiableException();
         }
 
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -111,10 +156,12 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -126,6 +173,7 @@ public class UniquePersonList implements Iterable<Person> {
         requireAllNonNull(persons);
         checkPersons(persons);
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -135,16 +183,59 @@ public class UniquePersonList implements Iterable<Person> {
      * @throws PersonNotIdentifiableException if there are persons with duplicate Ids.
      */
     private void checkPersons(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    throw new DuplicatePersonException();
-                }
-                if (persons.get(i).isSameId(persons.get(j))) {
-                    throw new PersonNotIdentifiableException();
-                }
+        Set<List<Object>> namesAndPhones = new HashSet<>();
+        Set<List<Object>> namesAndEmails = new HashSet<>();
+        Set<Id> ids = new HashSet<>();
+        for (Person person : persons) {
+            boolean isNewNameAndPhone = namesAndPhones.add(getNameAndPhone(person));
+            boolean isNewNameAndEmail = namesAndEmails.add(getNameAndEmail(person));
+            if (!isNewNameAndPhone || !isNewNameAndEmail) {
+                throw new DuplicatePersonException();
             }
+            if (!ids.add(person.getId())) {
+                throw new PersonNotIdentifiableException();
+            }
+        }
+    }
+
+    private void addToIndexes(Person person) {
+        idToPerson.put(person.getId(), person);
+        nameAndPhoneToPerson.put(getNameAndPhone(person), person);
+        nameAndEmailToPerson.put(getNameAndEmail(person), person);
+        nameTokenIndex.add(person.getName(), person.getId());
+        if (person.isInfected()) {
+            infectedIds.add(person.getId());
         }
+        if (person.isQuarantined()) {
+            quarantinedIds.add(person.getId());
+        }
+    }
+
+    private void removeFromIndexes(Person person) {
+        idToPerson.remove(person.getId(), person);
+        nameAndPhoneToPerson.remove(getNameAndPhone(person), person);
+        nameAndEmailToPerson.remove(getNameAndEmail(person), person);
+        nameTokenIndex.remove(person.getId());
+        infectedIds.remove(person.getId());
+        quarantinedIds.remove(person.getId());
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        idToPerson.clear();
+        nameAndPhoneToPerson.clear();
+        nameAndEmailToPerson.clear();
+        nameTokenIndex.clear();
+        infectedIds.clear();
+        quarantinedIds.clear();
+        persons.forEach(this::addToIndexes);
+    }
+
+    private static List<Object> getNameAndPhone(Person person) {
+        return List.of(person.getName(), person.getPhone());
+    }
+
+    private static List<Object> getNameAndEmail(Person person) {
+        return List.of(person.getName(), person.getEmail());
     }
 
     /**
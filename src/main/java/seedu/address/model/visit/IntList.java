@@ -0,0 +1,161 @@
+package seedu.address.model.visit;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A growable list of primitive ints, used to index visit slots without boxing.
+ * The index lists are kept in ascending order, either of value or of a key of each value and then of value, so that
+ * values can be found and inserted by binary search.
+ */
+class IntList {
+
+    static final IntList EMPTY = new IntList();
+
+    private int[] values = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Inserts {@code value} in ascending order. This list must be in ascending order.
+     */
+    void insert(int value) {
+        if (size == 0 || values[size - 1] < value) {
+            add(value);
+            return;
+        }
+        int index = Arrays.binarySearch(values, 0, size, value);
+        int insertionIndex = index >= 0 ? index : -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, insertionIndex, values, insertionIndex + 1, size - insertionIndex);
+        values[insertionIndex] = value;
+        size++;
+    }
+
+    /**
+     * Removes {@code value} if it is in this list. This list must be in ascending order.
+     */
+    void remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Inserts {@code value} in ascending order of {@code key}, and then of value.
+     * This list must be in that order.
+     */
+    void insert(int value, IntUnaryOperator key) {
+        int insertionIndex = firstIndexAfter(key.applyAsInt(value), value, key);
+        if (insertionIndex == size) {
+            add(value);
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, insertionIndex, values, insertionIndex + 1, size - insertionIndex);
+        values[insertionIndex] = value;
+        size++;
+    }
+
+    /**
+     * Removes {@code value} if it is in this list. This list must be in ascending order of {@code key}, and then
+     * of value, and the key of {@code value} must not have changed since it was inserted.
+     */
+    void remove(int value, IntUnaryOperator key) {
+        int index = firstIndexAfter(key.applyAsInt(value), value - 1, key);
+        if (index < size && values[index] == value) {
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Returns the index of the first value whose key is at least {@code minKey}, or {@code size()} if there is
+     * none. This list must be in ascending order of {@code key}.
+     */
+    int firstIndexWithKeyAtLeast(int minKey, IntUnaryOperator key) {
+        return firstIndexAfter(minKey, -1, key);
+    }
+
+    /**
+     * Sorts this list in ascending order of {@code key}, and then of value. The values must not be negative.
+     */
+    void sort(IntUnaryOperator key) {
+        long[] keysAndValues = new long[size];
+        for (int i = 0; i < size; i++) {
+            keysAndValues[i] = ((long) key.applyAsInt(values[i]) << Integer.SIZE) | values[i];
+        }
+        Arrays.sort(keysAndValues);
+        for (int i = 0; i < size; i++) {
+            values[i] = (int) keysAndValues[i];
+        }
+    }
+
+    /**
+     * Removes every value that is in {@code valuesToRemove} in one pass, keeping the other values in order.
+     */
+    void removeAll(BitSet valuesToRemove) {
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (!valuesToRemove.get(values[i])) {
+                values[newSize++] = values[i];
+            }
+        }
+        size = newSize;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns the index of the first value after {@code (keyOfValue, value)} in ascending order of {@code key},
+     * and then of value.
+     */
+    private int firstIndexAfter(int keyOfValue, int value, IntUnaryOperator key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int middleKey = key.applyAsInt(values[middle]);
+            if (middleKey < keyOfValue || (middleKey == keyOfValue && values[middle] <= value)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
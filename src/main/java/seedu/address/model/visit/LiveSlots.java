@@ -0,0 +1,155 @@
+package seedu.address.model.visit;
+
+import java.util.BitSet;
+
+/**
+ * Keeps which slots of {@code VisitColumns} still hold a visit in the list, and maps between the index of a visit
+ * in the list and its slot. Removed visits leave dead slots behind, so the slots of the other visits do not move.
+ * While there are dead slots, the live slots are counted in a Fenwick tree, so both mappings take O(log n) time.
+ * While there are none, each slot is its own index, so no tree is kept and both mappings take O(1) time.
+ */
+class LiveSlots {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // tree[i] is the number of live slots from i - (i & -i) to i - 1, for 1 <= i <= capacity.
+    // It is null while there are no dead slots, and built when the first slot is removed.
+    private int[] tree;
+    private final BitSet deadSlots = new BitSet();
+    private int numberOfSlots;
+    private int numberOfDeadSlots;
+
+    /**
+     * Returns the number of live slots.
+     */
+    int size() {
+        return numberOfSlots - numberOfDeadSlots;
+    }
+
+    int getNumberOfSlots() {
+        return numberOfSlots;
+    }
+
+    int getNumberOfDeadSlots() {
+        return numberOfDeadSlots;
+    }
+
+    boolean isLive(int slot) {
+        return slot >= 0 && slot < numberOfSlots && !deadSlots.get(slot);
+    }
+
+    /**
+     * Returns the next live slot from {@code slot} onwards, or {@code getNumberOfSlots()} if there is none.
+     */
+    int nextLiveSlot(int slot) {
+        return Math.min(deadSlots.nextClearBit(slot), numberOfSlots);
+    }
+
+    /**
+     * Adds a live slot after the existing slots and returns it.
+     */
+    int add() {
+        if (tree != null) {
+            if (numberOfSlots == tree.length - 1) {
+                grow();
+            }
+            update(numberOfSlots, 1);
+        }
+        return numberOfSlots++;
+    }
+
+    /**
+     * Marks the live {@code slot} as dead.
+     */
+    void remove(int slot) {
+        assert isLive(slot);
+        if (tree == null) {
+            tree = new int[Math.max(INITIAL_CAPACITY, numberOfSlots) + 1];
+            build();
+        }
+        deadSlots.set(slot);
+        numberOfDeadSlots++;
+        update(slot, -1);
+    }
+
+    /**
+     * Returns the index in the list of the visit in the live {@code slot}, which is the number of live slots
+     * before it.
+     */
+    int indexOf(int slot) {
+        if (numberOfDeadSlots == 0) {
+            return slot;
+        }
+        int index = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            index += tree[i];
+        }
+        return index;
+    }
+
+    /**
+     * Returns the slot of the visit at {@code index} in the list.
+     */
+    int slotAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        if (numberOfDeadSlots == 0) {
+            return index;
+        }
+        // Descends the tree for the last slot with at most index live slots before it.
+        int slot = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                slot = next;
+                remaining -= tree[next];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the dead slots. The returned set must not be modified.
+     */
+    BitSet getDeadSlots() {
+        return deadSlots;
+    }
+
+    /**
+     * Makes every slot live, with {@code numberOfSlots} slots, and releases the tree.
+     */
+    void clear(int numberOfSlots) {
+        this.numberOfSlots = numberOfSlots;
+        numberOfDeadSlots = 0;
+        deadSlots.clear();
+        tree = null;
+    }
+
+    private void update(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private void grow() {
+        tree = new int[2 * (tree.length - 1) + 1];
+        build();
+    }
+
+    /**
+     * Fills the tree from the slots in linear time.
+     */
+    private void build() {
+        for (int i = 1; i < tree.length; i++) {
+            if (i <= numberOfSlots && !deadSlots.get(i - 1)) {
+                tree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
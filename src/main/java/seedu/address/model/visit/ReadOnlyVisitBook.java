@@ -1,6 +1,11 @@
 package seedu.address.model.visit;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.ReadOnlyIdDictionary;
 
 /**
  * Unmodifiable view of a visit book
@@ -12,4 +17,75 @@ public interface ReadOnlyVisitBook {
      */
     ObservableList<Visit> getVisitList();
 
+    /**
+     * Returns the visits made by the person with the given {@code personId}.
+     * Takes time proportional to the number of visits returned rather than the size of the visit book.
+     */
+    List<Visit> getVisitsByPersonId(Id personId);
+
+    /**
+     * Returns the visits made by the person with the given {@code personId} between {@code startDate} and
+     * {@code endDate} inclusive.
+     * Takes time proportional to the number of visits made by the person rather than the size of the visit book.
+     */
+    List<Visit> getVisitsByPersonIdBetween(Id personId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the visits made to the location with the given {@code locationId}.
+     * Takes time proportional to the number of visits returned rather than the size of the visit book.
+     */
+    List<Visit> getVisitsByLocationId(Id locationId);
+
+    /**
+     * Returns the visits made to the location with the given {@code locationId} on {@code date}.
+     * Takes time proportional to the number of visits returned rather than the size of the visit book.
+     */
+    List<Visit> getVisitsByLocationIdOnDate(Id locationId, LocalDate date);
+
+    /**
+     * Returns the visits that happened on or before {@code date}, in ascending order of date.
+     */
+    List<Visit> getVisitsOnOrBefore(LocalDate date);
+
+    /**
+     * Returns the visits that happened between {@code startDate} and {@code endDate} inclusive,
+     * in ascending order of date.
+     */
+    List<Visit> getVisitsBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the dictionary of the person Ids referred to by the visits.
+     */
+    ReadOnlyIdDictionary getPersonIdDictionary();
+
+    /**
+     * Returns the dictionary of the location Ids referred to by the visits.
+     */
+    ReadOnlyIdDictionary getLocationIdDictionary();
+
+    /**
+     * Performs {@code action} on every visit in the order of {@link #getVisitList()}, with the person and location
+     * given as ordinals of {@link #getPersonIdDictionary()} and {@link #getLocationIdDictionary()}.
+     * No {@code Visit} objects are created.
+     */
+    void forEachVisit(VisitOrdinalConsumer action);
+
+    /**
+     * Performs {@code action} on every visit made by the person with {@code personOrdinal}, in the order of
+     * {@link #getVisitList()}. Takes time proportional to the number of those visits.
+     */
+    void forEachVisitByPerson(int personOrdinal, VisitOrdinalConsumer action);
+
+    /**
+     * Performs {@code action} on every visit made to the location with {@code locationOrdinal} on the day
+     * {@code epochDay}, in the order of {@link #getVisitList()}.
+     * Takes time proportional to the number of those visits.
+     */
+    void forEachVisitByLocationOnDay(int locationOrdinal, int epochDay, VisitOrdinalConsumer action);
+
+    /**
+     * Returns the fraction of the lookups of visits not in the visit book that could not be ruled out without
+     * reading its indexes.
+     */
+    double getFilterFalsePositiveRate();
 }
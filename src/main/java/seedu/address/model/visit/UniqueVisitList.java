@@ -3,11 +3,26 @@ package seedu.address.model.visit;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.IdDictionary;
+import seedu.address.model.attribute.ReadOnlyIdDictionary;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
 import seedu.address.model.visit.exceptions.DuplicateVisitException;
@@ -19,22 +34,158 @@ import seedu.address.model.visit.exceptions.VisitNotFoundException;
  * updating and deleting of visits uses Visit#equal(Visit) for equality so as to ensure that the visit being
  * added or updated is unique in terms of identity in the UniqueVisitList.
  *
+ * The visits are stored in {@code VisitColumns} as a person ordinal, a location ordinal and an epoch day each,
+ * and are only created as {@code Visit} objects when they are read.
+ * Each visit keeps its slot in the columns until it is removed. A removed visit leaves a dead slot behind, so the
+ * indexes only change for the removed visits. The dead slots are compacted once they outnumber the live ones.
+ * The columns take 12 bytes for each visit. With the indexes and the visit filter, a list of a million visits
+ * takes about 32 bytes for each visit.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Visit #equals(Visit)
  */
 public class UniqueVisitList implements Iterable<Visit> {
 
-    private final ObservableList<Visit> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Visit> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    // Dead slots are only compacted once there are more of them than this, so small lists are not compacted often.
+    private static final int MIN_DEAD_SLOTS_TO_COMPACT = 16;
+
+    private final IdDictionary personIds = new IdDictionary();
+    private final IdDictionary locationIds = new IdDictionary();
+    private final VisitColumns columns = new VisitColumns();
+    private final LiveSlots liveSlots = new LiveSlots();
+    private final VisitListView internalUnmodifiableList = new VisitListView();
+
+    // Indexes over the live slots of the visits in columns. The person and date indexes are in ascending order of
+    // slot, which is the order of the visits in the list. The location index is in ascending order of epoch day and
+    // then of slot, so that it also serves lookups by location and date.
+    private final List<IntList> personIndex = new ArrayList<>();
+    private final List<IntList> locationIndex = new ArrayList<>();
+    private final NavigableMap<Integer, IntList> dateIndex = new TreeMap<>();
+    private final IntUnaryOperator epochDayOfSlot = columns::getEpochDay;
+    // Rules out most lookups of visits that are not in the list before the location index is read.
+    private final VisitBloomFilter visitFilter = new VisitBloomFilter();
 
     /**
      * Returns true if the list contains an equivalent visit as the given argument.
      */
     public boolean contains(Visit toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return indexOf(toCheck) != -1;
+    }
+
+    /**
+     * Returns the visits in the list made by the person with the given Id, in the order they were added.
+     */
+    public List<Visit> getVisitsByPersonId(Id personId) {
+        requireNonNull(personId);
+        return toVisits(getSlots(personIndex, personIds.getOrdinal(personId)));
+    }
+
+    /**
+     * Returns the visits in the list made by the person with the given Id between {@code startDate} and
+     * {@code endDate} inclusive, in the order they were added.
+     * The person's visits outside the period are skipped by their stored date, without creating a {@code Visit}.
+     */
+    public List<Visit> getVisitsByPersonIdBetween(Id personId, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(personId, startDate, endDate);
+        IntList slots = getSlotList(personIndex, personIds.getOrdinal(personId));
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        List<Visit> visits = new ArrayList<>();
+        for (int i = 0; i < slots.size(); i++) {
+            int epochDay = columns.getEpochDay(slots.get(i));
+            if (epochDay >= startDay && epochDay <= endDay) {
+                visits.add(getVisit(slots.get(i)));
+            }
+        }
+        return visits;
+    }
+
+    /**
+     * Returns the visits in the list made to the location with the given Id, in the order they were added.
+     */
+    public List<Visit> getVisitsByLocationId(Id locationId) {
+        requireNonNull(locationId);
+        int[] slots = getSlots(locationIndex, locationIds.getOrdinal(locationId));
+        Arrays.sort(slots);
+        return toVisits(slots);
+    }
+
+    /**
+     * Returns the visits in the list made to the location with the given Id on {@code date},
+     * in the order they were added.
+     */
+    public List<Visit> getVisitsByLocationIdOnDate(Id locationId, LocalDate date) {
+        requireAllNonNull(locationId, date);
+        List<Visit> visits = new ArrayList<>();
+        forEachSlotOnDay(locationIds.getOrdinal(locationId), toEpochDay(date), slot -> visits.add(getVisit(slot)));
+        return visits;
+    }
+
+    /**
+     * Returns the visits in the list that happened on or before {@code date}, in ascending order of date.
+     */
+    public List<Visit> getVisitsOnOrBefore(LocalDate date) {
+        requireNonNull(date);
+        return toVisits(flatten(dateIndex.headMap(toEpochDay(date), true).values()));
+    }
+
+    /**
+     * Returns the visits in the list that happened between {@code startDate} and {@code endDate} inclusive,
+     * in ascending order of date.
+     */
+    public List<Visit> getVisitsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            return new ArrayList<>();
+        }
+        return toVisits(flatten(dateIndex.subMap(toEpochDay(startDate), true, toEpochDay(endDate), true).values()));
+    }
+
+    public ReadOnlyIdDictionary getPersonIdDictionary() {
+        return personIds;
+    }
+
+    /**
+     * Returns the fraction of the lookups of visits not in the list that were not ruled out by the visit filter,
+     * and so had to read the location and date index.
+     */
+    public double getFilterFalsePositiveRate() {
+        return visitFilter.getFalsePositiveRate();
+    }
+
+    public ReadOnlyIdDictionary getLocationIdDictionary() {
+        return locationIds;
+    }
+
+    /**
+     * Performs {@code action} on the ordinals and epoch day of every visit in the list, in order.
+     */
+    public void forEachVisit(VisitOrdinalConsumer action) {
+        for (int slot = liveSlots.nextLiveSlot(0); slot < liveSlots.getNumberOfSlots();
+                slot = liveSlots.nextLiveSlot(slot + 1)) {
+            action.accept(columns.getPersonOrdinal(slot), columns.getLocationOrdinal(slot), columns.getEpochDay(slot));
+        }
+    }
+
+    /**
+     * Performs {@code action} on the ordinals and epoch day of every visit made by the person with
+     * {@code personOrdinal}, in the order they were added.
+     */
+    public void forEachVisitByPerson(int personOrdinal, VisitOrdinalConsumer action) {
+        requireNonNull(action);
+        forEachVisitAt(getSlotList(personIndex, personOrdinal), action);
+    }
+
+    /**
+     * Performs {@code action} on the ordinals and epoch day of every visit made to the location with
+     * {@code locationOrdinal} on the day {@code epochDay}, in the order they were added.
+     */
+    public void forEachVisitByLocationOnDay(int locationOrdinal, int epochDay, VisitOrdinalConsumer action) {
+        requireNonNull(action);
+        forEachSlotOnDay(locationOrdinal, epochDay, slot -> action.accept(columns.getPersonOrdinal(slot),
+                columns.getLocationOrdinal(slot), columns.getEpochDay(slot)));
     }
 
     /**
@@ -46,7 +197,9 @@ public class UniqueVisitList implements Iterable<Visit> {
         if (contains(toAdd)) {
             throw new DuplicateVisitException();
         }
-        internalList.add(toAdd);
+        int slot = append(toAdd);
+        addToIndexes(slot);
+        internalUnmodifiableList.fireAdded(liveSlots.indexOf(slot));
     }
 
     /**
@@ -55,27 +208,41 @@ public class UniqueVisitList implements Iterable<Visit> {
      */
     public void remove(Visit toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int slot = indexOf(toRemove);
+        if (slot == -1) {
             throw new VisitNotFoundException();
         }
+        removeAll(new int[] {slot});
+    }
+
+    /**
+     * Removes all visits that happened on or before {@code date} with a single change to the backing list.
+     * Returns the removed visits in ascending order of date.
+     */
+    public List<Visit> removeVisitsOnOrBefore(LocalDate date) {
+        requireNonNull(date);
+        int[] slots = flatten(dateIndex.headMap(toEpochDay(date), true).values());
+        List<Visit> visitsToRemove = toVisits(slots);
+        removeAll(slots);
+        return visitsToRemove;
     }
 
     /**
-     * Removes all Visits that contain the person as given in the argument
+     * Removes all visits made by {@code personToDelete} with a single change to the backing list.
+     * The visits are looked up through the person Id index, so only the affected visits are examined.
      */
     public void removeVisitsWithPerson(Person personToDelete) {
         requireNonNull(personToDelete);
-
-        internalList.removeIf(visit -> visit.isSamePerson(personToDelete));
+        removeAll(getSlots(personIndex, personIds.getOrdinal(personToDelete.getId())));
     }
 
     /**
-     * Removes all the visits that have the same location as given in the argument.
+     * Removes all visits made to {@code locationToDelete} with a single change to the backing list.
+     * The visits are looked up through the location Id index, so only the affected visits are examined.
      */
     public void removeVisitsWithLocation(Location locationToDelete) {
         requireNonNull(locationToDelete);
-
-        internalList.removeIf(visit -> visit.isSameLocation(locationToDelete));
+        removeAll(getSlots(locationIndex, locationIds.getOrdinal(locationToDelete.getId())));
     }
 
     /**
@@ -86,8 +253,8 @@ public class UniqueVisitList implements Iterable<Visit> {
     public void setVisit(Visit target, Visit editedVisit) {
         requireAllNonNull(target, editedVisit);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int slot = indexOf(target);
+        if (slot == -1) {
             throw new VisitNotFoundException();
         }
 
@@ -95,12 +262,18 @@ public class UniqueVisitList implements Iterable<Visit> {
             throw new DuplicateVisitException();
         }
 
-        internalList.set(index, editedVisit);
+        Visit oldVisit = getVisit(slot);
+        removeFromIndexes(slot);
+        visitFilter.recordRemoval();
+        columns.set(slot, personIds.getOrAddOrdinal(editedVisit.getPersonId()),
+                locationIds.getOrAddOrdinal(editedVisit.getLocationId()), toEpochDay(editedVisit.getDate()));
+        addToIndexes(slot);
+        internalUnmodifiableList.fireSet(liveSlots.indexOf(slot), oldVisit);
     }
 
     public void setVisits(UniqueVisitList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setVisits(new ArrayList<>(replacement.internalUnmodifiableList));
     }
 
     /**
@@ -113,30 +286,244 @@ public class UniqueVisitList implements Iterable<Visit> {
             throw new DuplicateVisitException();
         }
 
-        internalList.setAll(visits);
+        List<Visit> oldVisits = new ArrayList<>(internalUnmodifiableList);
+        columns.clear();
+        liveSlots.clear(0);
+        personIds.clear();
+        locationIds.clear();
+        personIndex.clear();
+        locationIndex.clear();
+        visits.forEach(this::append);
+        rebuildIndexes();
+        internalUnmodifiableList.fireReplaced(oldVisits);
+    }
+
+    /**
+     * Removes the visits in {@code slots} from the list with a single change to the backing list.
+     * Only the index lists holding the removed visits are changed, unless the dead slots are compacted.
+     */
+    private void removeAll(int[] slots) {
+        if (slots.length == 0) {
+            return;
+        }
+        int[] sortedSlots = slots.clone();
+        Arrays.sort(sortedSlots);
+        // The indexes of the removed visits in the list, in ascending order, before any of them is removed.
+        int[] indexes = new int[sortedSlots.length];
+        List<Visit> removedVisits = new ArrayList<>(sortedSlots.length);
+        for (int i = 0; i < sortedSlots.length; i++) {
+            indexes[i] = liveSlots.indexOf(sortedSlots[i]);
+            removedVisits.add(getVisit(sortedSlots[i]));
+        }
+
+        if (sortedSlots.length == 1) {
+            removeFromIndexes(sortedSlots[0]);
+        } else {
+            BitSet slotsToRemove = new BitSet();
+            for (int slot : sortedSlots) {
+                slotsToRemove.set(slot);
+            }
+            removeFromIndexes(slotsToRemove);
+        }
+        for (int slot : sortedSlots) {
+            liveSlots.remove(slot);
+            visitFilter.recordRemoval();
+        }
+        if (liveSlots.getNumberOfDeadSlots() > Math.max(MIN_DEAD_SLOTS_TO_COMPACT, liveSlots.size())) {
+            compact();
+        } else if (visitFilter.needsRefill()) {
+            refillVisitFilter();
+        }
+        internalUnmodifiableList.fireRemoved(indexes, removedVisits);
     }
 
     /**
-     * Update the visits that have outdated person in this list with {@code editedPerson}
+     * Removes the dead slots from the columns and rebuilds the indexes over the remaining slots.
      */
-    public void updateWithEditedPerson(Person editedPerson) {
-        for (Visit visit : internalList) {
-            if (visit.getPerson().getId().equals(editedPerson.getId())) {
-                Visit editedVisit = new Visit(editedPerson, visit.getLocation(), visit.getDate());
-                setVisit(visit, editedVisit);
+    private void compact() {
+        columns.removeAll(liveSlots.getDeadSlots());
+        liveSlots.clear(columns.size());
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the slot of the visit equivalent to {@code visit}, or -1 if there is none.
+     * Most visits that are not in the list are ruled out by the visit filter. Otherwise, only the visits to its
+     * location on its date are examined, found by binary search in the location index.
+     */
+    private int indexOf(Visit visit) {
+        int personOrdinal = personIds.getOrdinal(visit.getPersonId());
+        int locationOrdinal = locationIds.getOrdinal(visit.getLocationId());
+        if (personOrdinal == IdDictionary.NO_ORDINAL || locationOrdinal == IdDictionary.NO_ORDINAL) {
+            return -1;
+        }
+        int epochDay = toEpochDay(visit.getDate());
+        if (!visitFilter.mightContain(VisitBloomFilter.key(personOrdinal, locationOrdinal, epochDay))) {
+            return -1;
+        }
+        IntList candidates = getSlotList(locationIndex, locationOrdinal);
+        for (int i = candidates.firstIndexWithKeyAtLeast(epochDay, epochDayOfSlot);
+                i < candidates.size() && columns.getEpochDay(candidates.get(i)) == epochDay; i++) {
+            int slot = candidates.get(i);
+            if (columns.matches(slot, personOrdinal, locationOrdinal, epochDay)) {
+                return slot;
             }
         }
+        visitFilter.recordFalsePositive();
+        return -1;
+    }
+
+    private int append(Visit visit) {
+        liveSlots.add();
+        return columns.add(personIds.getOrAddOrdinal(visit.getPersonId()),
+                locationIds.getOrAddOrdinal(visit.getLocationId()), toEpochDay(visit.getDate()));
+    }
+
+    private Visit getVisit(int slot) {
+        return new Visit(personIds.getId(columns.getPersonOrdinal(slot)),
+                locationIds.getId(columns.getLocationOrdinal(slot)),
+                LocalDate.ofEpochDay(columns.getEpochDay(slot)));
+    }
+
+    private List<Visit> toVisits(int[] slots) {
+        List<Visit> visits = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            visits.add(getVisit(slot));
+        }
+        return visits;
     }
+
     /**
-     * Update the visits that have outdated location in this list with {@code editedLocation}
+     * Performs {@code action} on the slot of every visit made to the location with {@code locationOrdinal} on the
+     * day {@code epochDay}, in the order they were added.
      */
-    public void updateWithEditedLocation(Location editedLocation) {
-        for (Visit visit : internalList) {
-            if (visit.getLocation().getId().equals(editedLocation.getId())) {
-                Visit editedVisit = new Visit(visit.getPerson(), editedLocation, visit.getDate());
-                setVisit(visit, editedVisit);
+    private void forEachSlotOnDay(int locationOrdinal, int epochDay, IntConsumer action) {
+        IntList slots = getSlotList(locationIndex, locationOrdinal);
+        for (int i = slots.firstIndexWithKeyAtLeast(epochDay, epochDayOfSlot);
+                i < slots.size() && columns.getEpochDay(slots.get(i)) == epochDay; i++) {
+            action.accept(slots.get(i));
+        }
+    }
+
+    private void forEachVisitAt(IntList slots, VisitOrdinalConsumer action) {
+        for (int i = 0; i < slots.size(); i++) {
+            int slot = slots.get(i);
+            action.accept(columns.getPersonOrdinal(slot), columns.getLocationOrdinal(slot), columns.getEpochDay(slot));
+        }
+    }
+
+    private void addToIndexes(int slot) {
+        getOrAddSlotList(personIndex, columns.getPersonOrdinal(slot)).insert(slot);
+        getOrAddSlotList(locationIndex, columns.getLocationOrdinal(slot)).insert(slot, epochDayOfSlot);
+        dateIndex.computeIfAbsent(columns.getEpochDay(slot), unused -> new IntList()).insert(slot);
+        visitFilter.add(getFilterKey(slot));
+        if (visitFilter.needsRefill()) {
+            refillVisitFilter();
+        }
+    }
+
+    /**
+     * Removes the visit in {@code slot} from the index lists holding it. Its key is left in the visit filter.
+     */
+    private void removeFromIndexes(int slot) {
+        personIndex.get(columns.getPersonOrdinal(slot)).remove(slot);
+        locationIndex.get(columns.getLocationOrdinal(slot)).remove(slot, epochDayOfSlot);
+        removeFromIndex(dateIndex, columns.getEpochDay(slot), slot);
+    }
+
+    /**
+     * Removes the visits in {@code slots} from the index lists holding them, filtering each of those lists once.
+     * Their keys are left in the visit filter.
+     */
+    private void removeFromIndexes(BitSet slots) {
+        Set<IntList> changedLists = new HashSet<>();
+        Set<Integer> changedDays = new HashSet<>();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            changedLists.add(personIndex.get(columns.getPersonOrdinal(slot)));
+            changedLists.add(locationIndex.get(columns.getLocationOrdinal(slot)));
+            changedDays.add(columns.getEpochDay(slot));
+        }
+        changedDays.forEach(epochDay -> changedLists.add(dateIndex.get(epochDay)));
+        changedLists.forEach(slotList -> slotList.removeAll(slots));
+        changedDays.forEach(epochDay -> removeIfEmpty(dateIndex, epochDay));
+    }
+
+    /**
+     * Rebuilds the indexes over the live slots. Each index list is appended to in ascending order of slot, and the
+     * location index lists are then sorted by epoch day once each.
+     */
+    private void rebuildIndexes() {
+        personIndex.forEach(IntList::clear);
+        locationIndex.forEach(IntList::clear);
+        dateIndex.clear();
+        visitFilter.clear(liveSlots.size());
+        for (int slot = liveSlots.nextLiveSlot(0); slot < liveSlots.getNumberOfSlots();
+                slot = liveSlots.nextLiveSlot(slot + 1)) {
+            getOrAddSlotList(personIndex, columns.getPersonOrdinal(slot)).add(slot);
+            getOrAddSlotList(locationIndex, columns.getLocationOrdinal(slot)).add(slot);
+            dateIndex.computeIfAbsent(columns.getEpochDay(slot), unused -> new IntList()).add(slot);
+            visitFilter.add(getFilterKey(slot));
+        }
+        locationIndex.forEach(slotList -> slotList.sort(epochDayOfSlot));
+    }
+
+    /**
+     * Refills the visit filter with every visit in the list, with room for as many visits again.
+     */
+    private void refillVisitFilter() {
+        visitFilter.clear(liveSlots.size());
+        for (int slot = liveSlots.nextLiveSlot(0); slot < liveSlots.getNumberOfSlots();
+                slot = liveSlots.nextLiveSlot(slot + 1)) {
+            visitFilter.add(getFilterKey(slot));
+        }
+    }
+
+    private long getFilterKey(int slot) {
+        return VisitBloomFilter.key(columns.getPersonOrdinal(slot), columns.getLocationOrdinal(slot),
+                columns.getEpochDay(slot));
+    }
+
+    private static IntList getOrAddSlotList(List<IntList> index, int ordinal) {
+        while (index.size() <= ordinal) {
+            index.add(new IntList());
+        }
+        return index.get(ordinal);
+    }
+
+    private static <K> void removeFromIndex(Map<K, IntList> index, K key, int slot) {
+        index.get(key).remove(slot);
+        removeIfEmpty(index, key);
+    }
+
+    private static <K> void removeIfEmpty(Map<K, IntList> index, K key) {
+        if (index.get(key).isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static IntList getSlotList(List<IntList> index, int ordinal) {
+        if (ordinal == IdDictionary.NO_ORDINAL || ordinal >= index.size()) {
+            return IntList.EMPTY;
+        }
+        return index.get(ordinal);
+    }
+
+    private static int[] getSlots(List<IntList> index, int ordinal) {
+        return getSlotList(index, ordinal).toArray();
+    }
+
+    private static int[] flatten(Collection<IntList> slotLists) {
+        IntList slots = new IntList();
+        for (IntList slotList : slotLists) {
+            for (int i = 0; i < slotList.size(); i++) {
+                slots.add(slotList.get(i));
             }
         }
+        return slots.toArray();
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
     }
 
     /**
@@ -148,32 +535,82 @@ public class UniqueVisitList implements Iterable<Visit> {
 
     @Override
     public Iterator<Visit> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueVisitList // instanceof handles nulls
-                && internalList.equals(((UniqueVisitList) other).internalList));
+                && internalUnmodifiableList.equals(((UniqueVisitList) other).internalUnmodifiableList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalUnmodifiableList.hashCode();
     }
 
     /**
      * Returns true if {@code visits} contains only unique visits.
      */
     private boolean visitsAreUnique(List<Visit> visits) {
-        for (int i = 0; i < visits.size() - 1; i++) {
-            for (int j = i + 1; j < visits.size(); j++) {
-                if (visits.get(i).equals(visits.get(j))) {
-                    return false;
-                }
+        Set<Visit> uniqueVisits = new HashSet<>();
+        for (Visit visit : visits) {
+            if (!uniqueVisits.add(visit)) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * An unmodifiable {@code ObservableList} view over the columns, which creates each {@code Visit} when it is read.
+     */
+    private class VisitListView extends ObservableListBase<Visit> {
+
+        @Override
+        public Visit get(int index) {
+            return getVisit(liveSlots.slotAt(index));
+        }
+
+        @Override
+        public int size() {
+            return liveSlots.size();
+        }
+
+        private void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        private void fireSet(int index, Visit oldVisit) {
+            beginChange();
+            nextSet(index, oldVisit);
+            endChange();
+        }
+
+        private void fireReplaced(List<Visit> oldVisits) {
+            beginChange();
+            if (!oldVisits.isEmpty()) {
+                nextRemove(0, oldVisits);
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+            endChange();
+        }
+
+        /**
+         * Reports the removal of {@code removedVisits}, which were at {@code indexes} in ascending order.
+         */
+        private void fireRemoved(int[] indexes, List<Visit> removedVisits) {
+            beginChange();
+            // Reported from the last index backwards, so that each index is still valid when reported.
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                nextRemove(indexes[i], removedVisits.get(i));
+            }
+            endChange();
+        }
+    }
 }
@@ -6,53 +6,63 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
+import seedu.address.model.attribute.Id;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
 
 
 /**
  * Represents a Visit in the visit book.
+ * A visit refers to its person and location by their Ids, which are resolved through the person and location books.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 
 public class Visit {
     private static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private final Person person;
-    private final Location location;
+    private final Id personId;
+    private final Id locationId;
     private final LocalDate date;
 
     /**
      * Every field must be present and not null.
      */
-    public Visit(Person person, Location location, LocalDate date) {
-        requireAllNonNull(person, location, date);
-        this.person = person;
-        this.location = location;
+    public Visit(Id personId, Id locationId, LocalDate date) {
+        requireAllNonNull(personId, locationId, date);
+        this.personId = personId;
+        this.locationId = locationId;
         this.date = date;
     }
 
+    /**
+     * Creates a visit by {@code person} to {@code location} on {@code date}.
+     * Every field must be present and not null.
+     */
+    public Visit(Person person, Location location, LocalDate date) {
+        this(person.getId(), location.getId(), date);
+    }
+
     //===================== For comparing =====================================
 
     public LocalDate getDate() {
         return date;
     }
 
-    public Person getPerson() {
-        return person;
+    public Id getPersonId() {
+        return personId;
     }
 
-    public Location getLocation() {
-        return location;
+    public Id getLocationId() {
+        return locationId;
     }
 
     //===================== For String conversions ============================
 
     public String getPersonIdAsString() {
-        return getPerson().getId().toString();
+        return getPersonId().toString();
     }
 
     public String getLocationIdAsString() {
-        return getLocation().getId().toString();
+        return getLocationId().toString();
     }
 
     public String getDateAsString() {
@@ -70,18 +80,18 @@ public class Visit {
      * Returns true if the person of the visit corresponds to the entered person
      */
     public boolean isSamePerson(Person person) {
-        return this.person.equals(person);
+        return person != null && personId.equals(person.getId());
     }
 
     /**
      * Returns true if the location of the visit corresponds to the entered location
      */
     public boolean isSameLocation(Location location) {
-        return this.location.equals(location);
+        return location != null && locationId.equals(location.getId());
     }
 
     /**
-     * Returns true if both visits have the same identity and data fields.
+     * Returns true if both visits are by the same person to the same location on the same date.
      */
     @Override
     public boolean equals(Object other) {
@@ -94,24 +104,24 @@ public class Visit {
         }
 
         Visit otherVisit = (Visit) other;
-        return otherVisit.getPerson().equals(getPerson())
-                && otherVisit.getLocation().equals(getLocation())
+        return otherVisit.getPersonId().equals(getPersonId())
+                && otherVisit.getLocationId().equals(getLocationId())
                 && otherVisit.getDate().equals(getDate());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(person, location, date);
+        return Objects.hash(personId, locationId, date);
     }
 
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        builder.append(" Person: ")
-                .append(getPerson().getName())
-                .append(" Location: ")
-                .append(getLocation().getName())
+        builder.append(" Person ID: ")
+                .append(getPersonId())
+                .append(" Location ID: ")
+                .append(getLocationId())
                 .append(" Date: ")
                 .append(getDate().format(DateTimeFormatter.ofPattern("MMM dd yyyy")));
 
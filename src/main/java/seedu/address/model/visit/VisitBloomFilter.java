@@ -0,0 +1,157 @@
+package seedu.address.model.visit;
+
+/**
+ * A blocked Bloom filter over visit keys, used to answer most lookups of visits that are not in the list without
+ * reading the indexes.
+ * Each key sets {@code BITS_PER_KEY_SET} bits in one 512-bit block, so a lookup reads a single cache line.
+ * Keys cannot be removed, so the keys of removed visits are left in the filter and counted as stale. The filter
+ * asks to be refilled once it holds more keys than it was sized for, once most of its keys are stale, or once stale
+ * keys have made the measured false positive rate drift well above what it was sized for.
+ *
+ * The filter also counts the lookups it could not rule out but that turned out not to be in the list, to report
+ * its false positive rate.
+ */
+class VisitBloomFilter {
+
+    private static final int MIN_CAPACITY = 64;
+    private static final int WORDS_PER_BLOCK = 8;
+    private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+    // With 16 bits for each key and 6 bits set by each key, about 0.1% of absent keys are false positives.
+    private static final int BITS_PER_KEY = 16;
+    private static final int BITS_PER_KEY_SET = 6;
+    private static final int BITS_PER_POSITION = 9;
+    // The false positive rate is only taken to have drifted once it is measured over this many absent lookups.
+    private static final int MIN_LOOKUPS_FOR_DRIFT = 1000;
+    private static final double MAX_FALSE_POSITIVE_RATE = 0.01;
+
+    private long[] words;
+    private int numberOfBlocks;
+    private int capacity;
+    private int size;
+    private int staleKeys;
+
+    private long negativeLookups;
+    private long falsePositives;
+    // The lookups counted since the filter was last cleared, to measure the drift of its false positive rate.
+    private long recentNegativeLookups;
+    private long recentFalsePositives;
+
+    VisitBloomFilter() {
+        clear(0);
+    }
+
+    /**
+     * Returns the key of a visit, packed from its person ordinal, location ordinal and epoch day.
+     * Keys are distinct while the ordinals and epoch day are below 2^20; beyond that different visits may share a
+     * key, which only adds false positives.
+     */
+    static long key(int personOrdinal, int locationOrdinal, int epochDay) {
+        return ((long) personOrdinal << 40) ^ ((long) locationOrdinal << 20) ^ (epochDay & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Removes every key and makes room for {@code expectedSize} keys. The lookup counts are kept.
+     */
+    void clear(int expectedSize) {
+        capacity = Math.max(MIN_CAPACITY, expectedSize * 2);
+        numberOfBlocks = (int) (((long) capacity * BITS_PER_KEY + BITS_PER_BLOCK - 1) / BITS_PER_BLOCK);
+        words = new long[numberOfBlocks * WORDS_PER_BLOCK];
+        size = 0;
+        staleKeys = 0;
+        recentNegativeLookups = 0;
+        recentFalsePositives = 0;
+    }
+
+    /**
+     * Returns true if more keys have been added than the filter was sized for, so it should be refilled with a
+     * larger size to keep its false positive rate.
+     */
+    boolean isFull() {
+        return size > capacity;
+    }
+
+    /**
+     * Records that the visit of a key in this filter was removed from the list. The key stays in the filter.
+     */
+    void recordRemoval() {
+        staleKeys++;
+    }
+
+    /**
+     * Returns true if the filter should be refilled with the keys of the visits in the list: if it is full, if most
+     * of its keys are stale, or if it holds stale keys and its false positive rate has drifted too high since it was
+     * last cleared.
+     */
+    boolean needsRefill() {
+        if (isFull() || staleKeys > size - staleKeys) {
+            return true;
+        }
+        long recentAbsentLookups = recentNegativeLookups + recentFalsePositives;
+        return staleKeys > 0 && recentAbsentLookups >= MIN_LOOKUPS_FOR_DRIFT
+                && recentFalsePositives > recentAbsentLookups * MAX_FALSE_POSITIVE_RATE;
+    }
+
+    void add(long key) {
+        long hash = mix(key);
+        int firstWord = getBlock(hash) * WORDS_PER_BLOCK;
+        long positions = mix(hash);
+        for (int i = 0; i < BITS_PER_KEY_SET; i++) {
+            int bit = (int) (positions >>> (i * BITS_PER_POSITION)) & (BITS_PER_BLOCK - 1);
+            words[firstWord + (bit >>> 6)] |= 1L << bit;
+        }
+        size++;
+    }
+
+    /**
+     * Returns false if {@code key} has definitely not been added, and true if it may have been.
+     */
+    boolean mightContain(long key) {
+        long hash = mix(key);
+        int firstWord = getBlock(hash) * WORDS_PER_BLOCK;
+        long positions = mix(hash);
+        for (int i = 0; i < BITS_PER_KEY_SET; i++) {
+            int bit = (int) (positions >>> (i * BITS_PER_POSITION)) & (BITS_PER_BLOCK - 1);
+            if ((words[firstWord + (bit >>> 6)] & (1L << bit)) == 0) {
+                negativeLookups++;
+                recentNegativeLookups++;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that a key this filter might contain was not found in the list.
+     */
+    void recordFalsePositive() {
+        falsePositives++;
+        recentFalsePositives++;
+    }
+
+    /**
+     * Returns the fraction of the lookups of absent keys that this filter could not rule out, or 0 if no absent key
+     * has been looked up.
+     */
+    double getFalsePositiveRate() {
+        long absentLookups = negativeLookups + falsePositives;
+        return absentLookups == 0 ? 0 : (double) falsePositives / absentLookups;
+    }
+
+    private int getBlock(long hash) {
+        // Maps the high 32 bits of the hash onto the blocks without a division.
+        return (int) (((hash >>> 32) * numberOfBlocks) >>> 32);
+    }
+
+    /**
+     * Returns a well-distributed hash of {@code value}, using the finalizer of MurmurHash3.
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
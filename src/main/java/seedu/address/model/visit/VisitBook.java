@@ -2,9 +2,12 @@ package seedu.address.model.visit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.attribute.Id;
+import seedu.address.model.attribute.ReadOnlyIdDictionary;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
 
@@ -57,15 +60,6 @@ public class VisitBook implements ReadOnlyVisitBook {
         setVisits(newData.getVisitList());
     }
 
-    /**
-     * Update the visit book with edited location
-     */
-    public void updateWithEditedLocation(Location editedLocation) {
-        requireNonNull(editedLocation);
-
-        visits.updateWithEditedLocation(editedLocation);
-    }
-
     //// visit-level operations
 
     /**
@@ -76,6 +70,64 @@ public class VisitBook implements ReadOnlyVisitBook {
         return visits.contains(visit);
     }
 
+    @Override
+    public List<Visit> getVisitsByPersonId(Id personId) {
+        return visits.getVisitsByPersonId(personId);
+    }
+
+    @Override
+    public List<Visit> getVisitsByPersonIdBetween(Id personId, LocalDate startDate, LocalDate endDate) {
+        return visits.getVisitsByPersonIdBetween(personId, startDate, endDate);
+    }
+
+    @Override
+    public List<Visit> getVisitsByLocationId(Id locationId) {
+        return visits.getVisitsByLocationId(locationId);
+    }
+
+    @Override
+    public List<Visit> getVisitsByLocationIdOnDate(Id locationId, LocalDate date) {
+        return visits.getVisitsByLocationIdOnDate(locationId, date);
+    }
+
+    @Override
+    public List<Visit> getVisitsOnOrBefore(LocalDate date) {
+        return visits.getVisitsOnOrBefore(date);
+    }
+
+    @Override
+    public List<Visit> getVisitsBetween(LocalDate startDate, LocalDate endDate) {
+        return visits.getVisitsBetween(startDate, endDate);
+    }
+
+    @Override
+    public ReadOnlyIdDictionary getPersonIdDictionary() {
+        return visits.getPersonIdDictionary();
+    }
+
+    @Override
+    public ReadOnlyIdDictionary getLocationIdDictionary() {
+        return visits.getLocationIdDictionary();
+    }
+
+    @Override
+    public void forEachVisit(VisitOrdinalConsumer action) {
+        requireNonNull(action);
+        visits.forEachVisit(action);
+    }
+
+    @Override
+    public void forEachVisitByPerson(int personOrdinal, VisitOrdinalConsumer action) {
+        requireNonNull(action);
+        visits.forEachVisitByPerson(personOrdinal, action);
+    }
+
+    @Override
+    public void forEachVisitByLocationOnDay(int locationOrdinal, int epochDay, VisitOrdinalConsumer action) {
+        requireNonNull(action);
+        visits.forEachVisitByLocationOnDay(locationOrdinal, epochDay, action);
+    }
+
     /**
      * Adds a Visit to the visit book.
      * The visit must not already exist in the visit book.
@@ -96,15 +148,6 @@ public class VisitBook implements ReadOnlyVisitBook {
         visits.setVisit(target, editedVisit);
     }
 
-    /**
-     * Update the visit book with edited person
-     */
-    public void updateWithEditedPerson(Person editedPerson) {
-        requireNonNull(editedPerson);
-
-        visits.updateWithEditedPerson(editedPerson);
-    }
-
     /**
      * Removes {@code key} from this {@code VisitBook}.
      * {@code key} must exist in the visit book.
@@ -113,6 +156,15 @@ public class VisitBook implements ReadOnlyVisitBook {
         visits.remove(key);
     }
 
+    /**
+     * Removes all visits that happened on or before {@code date} in one bulk operation.
+     * Returns the removed visits in ascending order of date.
+     */
+    public List<Visit> deleteVisitsOnOrBefore(LocalDate date) {
+        requireNonNull(date);
+        return visits.removeVisitsOnOrBefore(date);
+    }
+
     /**
      * Removes all visits that contain the person as given in the argument
      */
@@ -127,6 +179,11 @@ public class VisitBook implements ReadOnlyVisitBook {
         visits.removeVisitsWithLocation(locationToDelete);
     }
 
+    @Override
+    public double getFilterFalsePositiveRate() {
+        return visits.getFilterFalsePositiveRate();
+    }
+
     //// util methods
 
     @Override
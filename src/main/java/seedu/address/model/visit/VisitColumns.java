@@ -0,0 +1,105 @@
+package seedu.address.model.visit;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Stores visits column by column in growable primitive arrays: the person ordinal, the location ordinal and the
+ * epoch day of the visit at each position. No object is kept for each visit.
+ */
+class VisitColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] personOrdinals = new int[INITIAL_CAPACITY];
+    private int[] locationOrdinals = new int[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int getPersonOrdinal(int position) {
+        return personOrdinals[checkPosition(position)];
+    }
+
+    int getLocationOrdinal(int position) {
+        return locationOrdinals[checkPosition(position)];
+    }
+
+    int getEpochDay(int position) {
+        return epochDays[checkPosition(position)];
+    }
+
+    /**
+     * Returns true if the visit at {@code position} has the given ordinals and epoch day.
+     */
+    boolean matches(int position, int personOrdinal, int locationOrdinal, int epochDay) {
+        return personOrdinals[position] == personOrdinal
+                && locationOrdinals[position] == locationOrdinal
+                && epochDays[position] == epochDay;
+    }
+
+    /**
+     * Appends a visit and returns its position.
+     */
+    int add(int personOrdinal, int locationOrdinal, int epochDay) {
+        if (size == epochDays.length) {
+            int newCapacity = size + (size >> 1) + 1;
+            personOrdinals = Arrays.copyOf(personOrdinals, newCapacity);
+            locationOrdinals = Arrays.copyOf(locationOrdinals, newCapacity);
+            epochDays = Arrays.copyOf(epochDays, newCapacity);
+        }
+        personOrdinals[size] = personOrdinal;
+        locationOrdinals[size] = locationOrdinal;
+        epochDays[size] = epochDay;
+        return size++;
+    }
+
+    /**
+     * Replaces the visit at {@code position}.
+     */
+    void set(int position, int personOrdinal, int locationOrdinal, int epochDay) {
+        checkPosition(position);
+        personOrdinals[position] = personOrdinal;
+        locationOrdinals[position] = locationOrdinal;
+        epochDays[position] = epochDay;
+    }
+
+    /**
+     * Removes the visits at the given {@code positions} in one pass, keeping the remaining visits in order.
+     */
+    void removeAll(BitSet positions) {
+        int newSize = positions.nextSetBit(0);
+        if (newSize == -1 || newSize >= size) {
+            return;
+        }
+        for (int i = newSize + 1; i < size; i++) {
+            if (!positions.get(i)) {
+                personOrdinals[newSize] = personOrdinals[i];
+                locationOrdinals[newSize] = locationOrdinals[i];
+                epochDays[newSize] = epochDays[i];
+                newSize++;
+            }
+        }
+        size = newSize;
+    }
+
+    /**
+     * Removes all visits and releases the memory held by the columns.
+     */
+    void clear() {
+        personOrdinals = new int[INITIAL_CAPACITY];
+        locationOrdinals = new int[INITIAL_CAPACITY];
+        epochDays = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    private int checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of bounds for size " + size);
+        }
+        return position;
+    }
+}
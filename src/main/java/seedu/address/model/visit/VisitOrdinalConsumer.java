@@ -0,0 +1,15 @@
+package seedu.address.model.visit;
+
+/**
+ * Accepts a visit in its encoded form, without creating a {@code Visit}.
+ */
+@FunctionalInterface
+public interface VisitOrdinalConsumer {
+
+    /**
+     * Performs this operation on a visit by the person with {@code personOrdinal} to the location with
+     * {@code locationOrdinal} on the day {@code epochDay}.
+     * The ordinals are those of the visit book's person and location Id dictionaries.
+     */
+    void accept(int personOrdinal, int locationOrdinal, int epochDay);
+}
@@ -71,7 +71,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -79,7 +79,7 @@ class JsonAdaptedPerson {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.of(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -87,7 +87,7 @@ class JsonAdaptedPerson {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.of(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -95,7 +95,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         if (quarantineStatus == null) {
             throw new IllegalValueException(
@@ -104,7 +104,7 @@ class JsonAdaptedPerson {
         if (!QuarantineStatus.isValidQuarantineStatus(quarantineStatus)) {
             throw new IllegalValueException(QuarantineStatus.MESSAGE_CONSTRAINTS);
         }
-        final QuarantineStatus modelQuarantineStatus = new QuarantineStatus(quarantineStatus);
+        final QuarantineStatus modelQuarantineStatus = QuarantineStatus.of(quarantineStatus);
 
         if (infectionStatus == null) {
             throw new IllegalValueException(
@@ -114,7 +114,7 @@ class JsonAdaptedPerson {
         if (!InfectionStatus.isValidInfectionStatus(infectionStatus)) {
             throw new IllegalValueException(InfectionStatus.MESSAGE_CONSTRAINTS);
         }
-        final InfectionStatus modelInfectionStatus = new InfectionStatus(infectionStatus);
+        final InfectionStatus modelInfectionStatus = InfectionStatus.of(infectionStatus);
 
         if (id == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Id.class.getSimpleName()));
@@ -122,7 +122,7 @@ class JsonAdaptedPerson {
         if (!Id.isValidId(id)) {
             throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
         }
-        final Id modelId = new Id(id);
+        final Id modelId = Id.of(id);
 
         return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelQuarantineStatus,
                 modelInfectionStatus);
@@ -7,32 +7,19 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.model.attribute.Address;
-import seedu.address.model.attribute.Email;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.model.attribute.Id;
-import seedu.address.model.attribute.InfectionStatus;
-import seedu.address.model.attribute.Name;
-import seedu.address.model.attribute.Phone;
-import seedu.address.model.attribute.QuarantineStatus;
-import seedu.address.model.location.Location;
-import seedu.address.model.person.Person;
 import seedu.address.model.visit.Visit;
 
 /**
  * Jackson-friendly version of {@link Visit}.
+ * Only the Ids of the person and location are stored; they are resolved through the person and location books.
+ * Person and location details written by older versions of the visit book are ignored when reading.
  */
 public class JsonAdaptedVisit {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Visit's %s field is missing!";
 
-    private final String namePerson;
-    private final String phone;
-    private final String email;
-    private final String addressPerson;
-    private final String quarantineStatus;
-    private final String infectionStatus;
     private final String idPerson;
-    private final String nameLocation;
-    private final String addressLocation;
     private final String idLocation;
     private final String dateOfVisit;
 
@@ -40,26 +27,10 @@ public class JsonAdaptedVisit {
      * Constructs a {@code JsonAdaptedVisit} with the given visit details.
      */
     @JsonCreator
-    public JsonAdaptedVisit(@JsonProperty("namePerson") String namePerson,
-                            @JsonProperty("phone") String phone,
-                            @JsonProperty("email") String email,
-                            @JsonProperty("addressPerson") String addressPerson,
-                            @JsonProperty("quarantineStatus") String quarantineStatus,
-                            @JsonProperty("infectionStatus") String infectionStatus,
-                            @JsonProperty("idPerson") String idPerson,
-                            @JsonProperty("nameLocation") String nameLocation,
-                            @JsonProperty("addressLocation") String addressLocation,
+    public JsonAdaptedVisit(@JsonProperty("idPerson") String idPerson,
                             @JsonProperty("idLocation") String idLocation,
                             @JsonProperty("dateOfVisit") String date) {
-        this.namePerson = namePerson;
-        this.phone = phone;
-        this.email = email;
-        this.addressPerson = addressPerson;
-        this.quarantineStatus = quarantineStatus;
-        this.infectionStatus = infectionStatus;
         this.idPerson = idPerson;
-        this.nameLocation = nameLocation;
-        this.addressLocation = addressLocation;
         this.idLocation = idLocation;
         this.dateOfVisit = date;
     }
@@ -68,16 +39,8 @@ public class JsonAdaptedVisit {
      * Converts a given {@code Visit} into this class for Jackson use.
      */
     public JsonAdaptedVisit(Visit source) {
-        namePerson = source.getPerson().getName().fullName;
-        phone = source.getPerson().getPhone().value;
-        email = source.getPerson().getEmail().value;
-        addressPerson = source.getPerson().getAddress().value;
-        quarantineStatus = source.getPerson().getQuarantineStatus().toString();
-        infectionStatus = source.getPerson().getInfectionStatus().toString();
-        idPerson = source.getPerson().getId().value;
-        nameLocation = source.getLocation().getName().fullName;
-        addressLocation = source.getLocation().getAddress().value;
-        idLocation = source.getLocation().getId().value;
+        idPerson = source.getPersonId().value;
+        idLocation = source.getLocationId().value;
         dateOfVisit = source.getDate().toString();
     }
 
@@ -87,83 +50,13 @@ public class JsonAdaptedVisit {
      * @throws IllegalValueException if there were any data constraints violated in the adapted visit.
      */
     public Visit toModelType() throws IllegalValueException {
-        if (namePerson == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(namePerson)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(namePerson);
-
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
-
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
-        }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
-
-        if (addressPerson == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
-        }
-        if (!Address.isValidAddress(addressPerson)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(addressPerson);
-
-        if (quarantineStatus == null) {
-            throw new IllegalValueException(
-                    String.format(MISSING_FIELD_MESSAGE_FORMAT, QuarantineStatus.class.getSimpleName()));
-        }
-        if (!QuarantineStatus.isValidQuarantineStatus(quarantineStatus)) {
-            throw new IllegalValueException(QuarantineStatus.MESSAGE_CONSTRAINTS);
-        }
-        final QuarantineStatus modelQuarantineStatus = new QuarantineStatus(quarantineStatus);
-
-        if (infectionStatus == null) {
-            throw new IllegalValueException(
-                    String.format(MISSING_FIELD_MESSAGE_FORMAT, InfectionStatus.class.getSimpleName())
-            );
-        }
-        if (!InfectionStatus.isValidInfectionStatus(infectionStatus)) {
-            throw new IllegalValueException(InfectionStatus.MESSAGE_CONSTRAINTS);
-        }
-        final InfectionStatus modelInfectionStatus = new InfectionStatus(infectionStatus);
-
         if (idPerson == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Id.class.getSimpleName()));
         }
         if (!Id.isValidId(idPerson)) {
             throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
         }
-        final Id modelIdPerson = new Id(idPerson);
-
-        final Person modelPerson = new Person(modelIdPerson, modelName, modelPhone, modelEmail, modelAddress,
-                modelQuarantineStatus, modelInfectionStatus);
-
-        if (nameLocation == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(nameLocation)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelNameLocation = new Name(nameLocation);
-
-        if (addressLocation == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
-        }
-        if (!Address.isValidAddress(addressLocation)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddressLocation = new Address(addressLocation);
+        final Id modelIdPerson = Id.of(idPerson);
 
         if (idLocation == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Id.class.getSimpleName()));
@@ -171,9 +64,7 @@ public class JsonAdaptedVisit {
         if (!Id.isValidId(idLocation)) {
             throw new IllegalValueException(Id.MESSAGE_CONSTRAINTS);
         }
-        final Id modelIdLocation = new Id(idLocation);
-
-        final Location modelLocation = new Location(modelIdLocation, modelNameLocation, modelAddressLocation);
+        final Id modelIdLocation = Id.of(idLocation);
 
         if (dateOfVisit == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
@@ -184,7 +75,7 @@ public class JsonAdaptedVisit {
         }
 
         DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate modelDate = LocalDate.parse(dateOfVisit, inputFormat);
-        return new Visit(modelPerson, modelLocation, modelDate);
+        LocalDate modelDate = DateUtil.intern(LocalDate.parse(dateOfVisit, inputFormat));
+        return new Visit(modelIdPerson, modelIdLocation, modelDate);
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,6 +11,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
 import seedu.address.model.visit.VisitBook;
@@ -20,6 +24,10 @@ import seedu.address.model.visit.VisitBook;
 class JsonSerializableVisitBook {
 
     public static final String MESSAGE_DUPLICATE_VISIT = "Visits list contains duplicate visit(s).";
+    public static final String MESSAGE_UNKNOWN_PERSON_ID = "Visits list refers to a person Id that is not in the "
+            + "person book: %s";
+    public static final String MESSAGE_UNKNOWN_LOCATION_ID = "Visits list refers to a location Id that is not in the "
+            + "location book: %s";
 
     private final List<JsonAdaptedVisit> visits = new ArrayList<JsonAdaptedVisit>();
 
@@ -57,4 +65,34 @@ class JsonSerializableVisitBook {
         }
         return visitBook;
     }
+
+    /**
+     * Converts this visit book into the model's {@code VisitBook} object, resolving the person and location Ids of
+     * every visit against {@code personBook} and {@code locationBook}.
+     * The visits share the Id instances of the persons and locations they refer to.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if a visit refers to a person
+     *     or location that is not in the given books.
+     */
+    public VisitBook toModelType(ReadOnlyPersonBook personBook, ReadOnlyLocationBook locationBook)
+            throws IllegalValueException {
+        requireAllNonNull(personBook, locationBook);
+        VisitBook visitBook = new VisitBook();
+        for (JsonAdaptedVisit jsonAdaptedVisit : visits) {
+            Visit visit = jsonAdaptedVisit.toModelType();
+            if (!personBook.hasPersonId(visit.getPersonId())) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON_ID, visit.getPersonId()));
+            }
+            if (!locationBook.hasLocationId(visit.getLocationId())) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_LOCATION_ID, visit.getLocationId()));
+            }
+            Visit canonicalVisit = new Visit(personBook.getPersonById(visit.getPersonId()).getId(),
+                    locationBook.getLocationById(visit.getLocationId()).getId(), visit.getDate());
+            if (visitBook.hasVisit(canonicalVisit)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_VISIT);
+            }
+            visitBook.addVisit(canonicalVisit);
+        }
+        return visitBook;
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -12,6 +13,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 
 
@@ -60,6 +63,38 @@ public class JsonVisitBookStorage implements VisitBookStorage {
         }
     }
 
+    @Override
+    public Optional<ReadOnlyVisitBook> readVisitBook(ReadOnlyPersonBook personBook, ReadOnlyLocationBook locationBook)
+            throws DataConversionException {
+        return readVisitBook(filePath, personBook, locationBook);
+    }
+
+    /**
+     * Similar to {@link #readVisitBook(ReadOnlyPersonBook, ReadOnlyLocationBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format, or if a visit refers to a person
+     *     or location that is not in the given books.
+     */
+    public Optional<ReadOnlyVisitBook> readVisitBook(Path filePath, ReadOnlyPersonBook personBook,
+                                                     ReadOnlyLocationBook locationBook)
+            throws DataConversionException {
+        requireAllNonNull(filePath, personBook, locationBook);
+
+        Optional<JsonSerializableVisitBook> jsonVisitBook = JsonUtil.readJsonFile(
+                filePath, JsonSerializableVisitBook.class);
+        if (jsonVisitBook.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonVisitBook.get().toModelType(personBook, locationBook));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
     @Override
     public void saveVisitBook(ReadOnlyVisitBook visitBook) throws IOException {
         saveVisitBook(visitBook, filePath);
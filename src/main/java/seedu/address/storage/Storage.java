@@ -46,6 +46,10 @@ public interface Storage extends PersonBookStorage, LocationBookStorage, UserPre
     @Override
     Optional<ReadOnlyVisitBook> readVisitBook() throws DataConversionException, IOException;
 
+    @Override
+    Optional<ReadOnlyVisitBook> readVisitBook(ReadOnlyPersonBook personBook, ReadOnlyLocationBook locationBook)
+            throws DataConversionException, IOException;
+
     @Override
     void saveVisitBook(ReadOnlyVisitBook visitBook) throws IOException;
 }
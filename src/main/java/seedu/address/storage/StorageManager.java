@@ -131,6 +131,20 @@ public class StorageManager implements Storage {
         return visitBookStorage.readVisitBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyVisitBook> readVisitBook(ReadOnlyPersonBook personBook, ReadOnlyLocationBook locationBook)
+            throws DataConversionException, IOException {
+        return readVisitBook(visitBookStorage.getVisitBookFilePath(), personBook, locationBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyVisitBook> readVisitBook(Path filePath, ReadOnlyPersonBook personBook,
+                                                     ReadOnlyLocationBook locationBook)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + filePath);
+        return visitBookStorage.readVisitBook(filePath, personBook, locationBook);
+    }
+
     @Override
     public void saveVisitBook(ReadOnlyVisitBook visitBook) throws IOException {
         saveVisitBook(visitBook, visitBookStorage.getVisitBookFilePath());
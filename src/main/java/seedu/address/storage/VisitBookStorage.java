@@ -5,6 +5,8 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.VisitBook;
 
@@ -32,6 +34,24 @@ public interface VisitBookStorage {
      */
     Optional<ReadOnlyVisitBook> readVisitBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns VisitBook data as a {@link ReadOnlyVisitBook}, with the person and location Ids of every visit
+     * resolved against {@code personBook} and {@code locationBook}.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format, or if a visit refers
+     *     to a person or location that is not in the given books.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<ReadOnlyVisitBook> readVisitBook(ReadOnlyPersonBook personBook, ReadOnlyLocationBook locationBook)
+            throws DataConversionException, IOException;
+
+    /**
+     * @see #readVisitBook(ReadOnlyPersonBook, ReadOnlyLocationBook)
+     */
+    Optional<ReadOnlyVisitBook> readVisitBook(Path filePath, ReadOnlyPersonBook personBook,
+                                              ReadOnlyLocationBook locationBook)
+            throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyVisitBook} to the storage.
      * @param visitBook cannot be null.
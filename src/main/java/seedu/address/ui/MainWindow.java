@@ -126,7 +126,8 @@ public class MainWindow extends UiPart<Stage> {
         locationListPanel = new LocationListPanel(logic.getSortedLocationList());
         locationListPanelPlaceholder.getChildren().add(locationListPanel.getRoot());
 
-        visitListPanel = new VisitListPanel(logic.getSortedVisitList());
+        visitListPanel = new VisitListPanel(logic.getSortedVisitList(), logic.getPersonBook(),
+                logic.getLocationBook());
         visitListPanelPlaceholder.getChildren().add(visitListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
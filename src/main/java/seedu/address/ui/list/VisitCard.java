@@ -4,6 +4,8 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
 import seedu.address.model.visit.Visit;
 import seedu.address.ui.UiPart;
 
@@ -40,16 +42,17 @@ public class VisitCard extends UiPart<Region> {
     private Label locationId;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code VisitCard} with the given {@code Visit}, its resolved {@code Person} and {@code Location},
+     * and index to display.
      */
-    public VisitCard(Visit visit, int displayedIndex) {
+    public VisitCard(Visit visit, Person person, Location location, int displayedIndex) {
         super(FXML);
         this.visit = visit;
         id.setText(displayedIndex + ". ");
         date.setText("Date: " + visit.getDate().toString());
-        personName.setText("Visit by: " + visit.getPerson().getName());
+        personName.setText("Visit by: " + person.getName());
         personId.setText("Person ID: " + visit.getPersonIdAsString());
-        locationName.setText("Location: " + visit.getLocation().getName());
+        locationName.setText("Location: " + location.getName());
         locationId.setText("Location ID: " + visit.getLocationIdAsString());
     }
 
@@ -8,6 +8,8 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
 import seedu.address.model.visit.Visit;
 import seedu.address.ui.UiPart;
 
@@ -18,14 +20,21 @@ public class VisitListPanel extends UiPart<Region> {
     private static final String FXML = "VisitListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
+    private final ReadOnlyPersonBook personBook;
+    private final ReadOnlyLocationBook locationBook;
+
     @FXML
     private ListView<Visit> visitListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code VisitListPanel} with the given {@code ObservableList}.
+     * The persons and locations of the visits are resolved through {@code personBook} and {@code locationBook}.
      */
-    public VisitListPanel(ObservableList<Visit> visitList) {
+    public VisitListPanel(ObservableList<Visit> visitList, ReadOnlyPersonBook personBook,
+                          ReadOnlyLocationBook locationBook) {
         super(FXML);
+        this.personBook = personBook;
+        this.locationBook = locationBook;
         visitListView.setItems(visitList);
         visitListView.setCellFactory(listView -> new VisitListViewCell());
     }
@@ -42,7 +51,8 @@ public class VisitListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new VisitCard(visit, getIndex() + 1).getRoot());
+                setGraphic(new VisitCard(visit, personBook.getPersonById(visit.getPersonId()),
+                        locationBook.getLocationById(visit.getLocationId()), getIndex() + 1).getRoot());
             }
         }
     }
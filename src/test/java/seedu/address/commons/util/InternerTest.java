@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("value");
+        String second = new String("value");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    public void intern_differentValues_returnsEachValue() {
+        String first = new String("first");
+        String second = new String("second");
+
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+    }
+
+    @Test
+    public void dateUtilIntern_sameDay_returnsSameInstance() {
+        LocalDate date = DateUtil.intern(LocalDate.parse("2020-09-12"));
+        assertSame(date, DateUtil.intern(LocalDate.of(2020, 9, 12)));
+    }
+}
@@ -123,6 +123,24 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsWordStartingWithIgnoreCase ------------------------------
+
+    @Test
+    public void containsWordStartingWithIgnoreCase_emptyPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Prefix parameter cannot be empty", ()
+            -> StringUtil.containsWordStartingWithIgnoreCase("typical sentence", "  "));
+    }
+
+    @Test
+    public void containsWordStartingWithIgnoreCase_validInputs_correctResult() {
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("", "abc")); // Empty sentence
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("aaa bbb ccc", "bbbb")); // Longer than word
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("aaa bcd", "cd")); // Not the start of a word
+
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("aaa bCd ccc", "Bc")); // Different case
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("  AAA   bBb  ", "aaa")); // Whole word
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
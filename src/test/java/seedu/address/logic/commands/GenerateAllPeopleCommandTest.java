@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.GenerateAllPeopleCommand.MESSAGE_NO_INFECTED_PEOPLE;
+import static seedu.address.logic.commands.GenerateAllPeopleCommand.MESSAGE_NO_PEOPLE_FOUND;
+import static seedu.address.logic.commands.GenerateAllPeopleCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.ELLE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+
+public class GenerateAllPeopleCommandTest {
+    // The typical infected people were all infected on this date.
+    private static final LocalDate INFECTION_DATE = DANIEL.getInfectionStatus().getInfectionDate().get();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+
+    @Test
+    public void execute_noInfectedPeople_throwsCommandException() {
+        Model emptyModel = new ModelManager(new PersonBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        assertCommandFailure(new GenerateAllPeopleCommand(), emptyModel, MESSAGE_NO_INFECTED_PEOPLE);
+    }
+
+    @Test
+    public void execute_noContactsInExposureWindow_throwsCommandException() {
+        assertCommandFailure(new GenerateAllPeopleCommand(), model, MESSAGE_NO_PEOPLE_FOUND);
+    }
+
+    @Test
+    public void execute_contactsInExposureWindow_success() {
+        Visit[] testVisits = {new Visit(DANIEL, DANIEL_LOCATION, INFECTION_DATE),
+            new Visit(CARL, DANIEL_LOCATION, INFECTION_DATE), new Visit(ELLE, ELLE_LOCATION, INFECTION_DATE),
+            new Visit(CARL, ELLE_LOCATION, INFECTION_DATE), new Visit(ALICE, ELLE_LOCATION, INFECTION_DATE)};
+        for (Visit testVisit : testVisits) {
+            model.addVisit(testVisit);
+            expectedModel.addVisit(testVisit);
+        }
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(CARL));
+        int numberOfInfected = model.getPersonBook().getInfectedPersonIds().size();
+        String expectedMessage = String.format(MESSAGE_SUCCESS, numberOfInfected, 2, CARL.getName(), 2);
+
+        assertCommandSuccess(new GenerateAllPeopleCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -39,6 +39,9 @@ import seedu.address.model.visit.Visit;
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
  */
 public class GenerateLocationsCommandTest {
+    // The typical infected people were all infected on this date.
+    private static final LocalDate INFECTION_DATE = DANIEL.getInfectionStatus().getInfectionDate().get();
+
     private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
             getTypicalVisitBook(), new UserPrefs());
     private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
@@ -97,7 +100,7 @@ public class GenerateLocationsCommandTest {
     @Test
     public void execute_validInputFromViewingAllPeople_success() {
         String expectedMessage = "Generated locations for: Daniel Meier";
-        Visit testVisit = new Visit(DANIEL, DANIEL_LOCATION, LocalDate.now());
+        Visit testVisit = new Visit(DANIEL, DANIEL_LOCATION, INFECTION_DATE);
         model.addVisit(testVisit);
         Model expectedModelForGenerate = expectedModel;
         expectedModelForGenerate.addVisit(testVisit);
@@ -112,7 +115,7 @@ public class GenerateLocationsCommandTest {
     @Test
     public void execute_validInputFromViewingAllInfected_success() {
         CommandResult expectedCommand = new CommandResult("Generated locations for: Benson Meier");
-        Visit testVisit = new Visit(BENSON, DANIEL_LOCATION, LocalDate.now());
+        Visit testVisit = new Visit(BENSON, DANIEL_LOCATION, INFECTION_DATE);
         Model modelForAllInfected = model;
         modelForAllInfected.addVisit(testVisit);
         modelForAllInfected.updateFilteredPersonList(PREDICATE_SHOW_ALL_INFECTED);
@@ -138,7 +141,7 @@ public class GenerateLocationsCommandTest {
     @Test
     public void execute_dateOfVisitIsWithinRange_success() {
         String expectedMessage = "Generated locations for: Daniel Meier";
-        LocalDate testDate = LocalDate.now().minusDays(7);
+        LocalDate testDate = INFECTION_DATE.plusDays(7);
         Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, testDate);
         model.addVisit(testVisitOne);
         Model expectedModelForGenerate = expectedModel;
@@ -152,9 +155,9 @@ public class GenerateLocationsCommandTest {
     }
 
     @Test
-    public void execute_dateOfVisitMoreThanTwoWeeksAgo_noVisitsFound() {
+    public void execute_dateOfVisitBeforeExposureWindow_noVisitsFound() {
         String expectedMessage = MESSAGE_PERSON_HAS_NO_VISITS;
-        LocalDate testDate = LocalDate.now().minusDays(14);
+        LocalDate testDate = INFECTION_DATE.minusDays(15);
         Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, testDate);
         model.addVisit(testVisitOne);
         Index index = Index.fromOneBased(4);
@@ -163,9 +166,9 @@ public class GenerateLocationsCommandTest {
     }
 
     @Test
-    public void execute_dateOfVisitInTheFuture_noVisitsFound() {
+    public void execute_dateOfVisitAfterExposureWindow_noVisitsFound() {
         String expectedMessage = MESSAGE_PERSON_HAS_NO_VISITS;
-        LocalDate testDate = LocalDate.now().plusDays(1);
+        LocalDate testDate = INFECTION_DATE.plusDays(15);
         Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, testDate);
         model.addVisit(testVisitOne);
         Index index = Index.fromOneBased(4);
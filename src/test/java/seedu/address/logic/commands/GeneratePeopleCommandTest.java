@@ -17,6 +17,7 @@ import static seedu.address.testutil.TypicalLocations.ELLE_LOCATION;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
@@ -41,6 +42,9 @@ import seedu.address.testutil.PersonBuilder;
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
  */
 public class GeneratePeopleCommandTest {
+    // The typical infected people were all infected on this date.
+    private static final LocalDate INFECTION_DATE = DANIEL.getInfectionStatus().getInfectionDate().get();
+
     private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
             getTypicalVisitBook(), new UserPrefs());
     private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
@@ -69,6 +73,10 @@ public class GeneratePeopleCommandTest {
 
         // different person -> returns false
         assertFalse(firstGeneratePeopleCommand.equals(secondGeneratePeopleCommand));
+
+        // different degree -> returns false
+        assertFalse(firstGeneratePeopleCommand.equals(new GeneratePeopleCommand(
+                new IndexIdPairStub(INDEX_FIRST, null), 2)));
     }
 
     @Test
@@ -99,7 +107,7 @@ public class GeneratePeopleCommandTest {
     public void execute_noPeopleFound_throwCommandException() {
         String expectedMessage = MESSAGE_NO_PEOPLE_FOUND;
         Visit testVisit = new Visit(new PersonBuilder().withId("S5678").build(),
-                ELLE_LOCATION, LocalDate.now());
+                ELLE_LOCATION, INFECTION_DATE);
         model.addVisit(testVisit);
         Index index = Index.fromOneBased(5);
         GeneratePeopleCommand command = new GeneratePeopleCommand(new IndexIdPairStub(index, null));
@@ -109,8 +117,8 @@ public class GeneratePeopleCommandTest {
     @Test
     public void execute_validInputFromViewingAllPeople_success() {
         String expectedMessage = "Generated people for: Daniel Meier";
-        Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, LocalDate.now());
-        Visit testVisitTwo = new Visit(ELLE, DANIEL_LOCATION, LocalDate.now());
+        Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, INFECTION_DATE);
+        Visit testVisitTwo = new Visit(ELLE, DANIEL_LOCATION, INFECTION_DATE);
         model.addVisit(testVisitOne);
         model.addVisit(testVisitTwo);
         Model expectedModelForGenerate = expectedModel;
@@ -127,7 +135,7 @@ public class GeneratePeopleCommandTest {
     @Test
     public void execute_validInputFromViewingAllInfected_noPeopleFound() {
         String expectedMessage = MESSAGE_NO_PEOPLE_FOUND;
-        Visit testVisit = new Visit(DANIEL, DANIEL_LOCATION, LocalDate.now());
+        Visit testVisit = new Visit(DANIEL, DANIEL_LOCATION, INFECTION_DATE);
         Model modelForAllInfected = model;
         modelForAllInfected.addVisit(testVisit);
         modelForAllInfected.updateFilteredPersonList(PREDICATE_SHOW_ALL_INFECTED);
@@ -146,7 +154,7 @@ public class GeneratePeopleCommandTest {
     @Test
     public void execute_dateOfVisitIsWithinRange_success() {
         String expectedMessage = "Generated people for: Daniel Meier";
-        LocalDate testDate = LocalDate.now().minusDays(7);
+        LocalDate testDate = INFECTION_DATE.plusDays(7);
         Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, testDate);
         Visit testVisitTwo = new Visit(ELLE, DANIEL_LOCATION, testDate);
         model.addVisit(testVisitOne);
@@ -163,9 +171,9 @@ public class GeneratePeopleCommandTest {
     }
 
     @Test
-    public void execute_dateOfVisitMoreThanTwoWeeksAgo_noPeopleFound() {
+    public void execute_dateOfVisitBeforeExposureWindow_noPeopleFound() {
         String expectedMessage = MESSAGE_PERSON_HAS_NO_VISITS;
-        LocalDate testDate = LocalDate.now().minusDays(14);
+        LocalDate testDate = INFECTION_DATE.minusDays(15);
         Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, testDate);
         model.addVisit(testVisitOne);
         Index index = Index.fromOneBased(4);
@@ -174,13 +182,30 @@ public class GeneratePeopleCommandTest {
     }
 
     @Test
-    public void execute_dateOfVisitInTheFuture_noPeopleFound() {
+    public void execute_dateOfVisitAfterExposureWindow_noPeopleFound() {
         String expectedMessage = MESSAGE_PERSON_HAS_NO_VISITS;
-        LocalDate testDate = LocalDate.now().plusDays(1);
+        LocalDate testDate = INFECTION_DATE.plusDays(15);
         Visit testVisitOne = new Visit(DANIEL, DANIEL_LOCATION, testDate);
         model.addVisit(testVisitOne);
         Index index = Index.fromOneBased(4);
         GeneratePeopleCommand command = new GeneratePeopleCommand(new IndexIdPairStub(index, null));
         assertThrows(CommandException.class, () -> command.execute(model), expectedMessage);
     }
+
+    @Test
+    public void execute_secondDegree_contactsOfContactsFound() {
+        LocalDate dayAfter = INFECTION_DATE.plusDays(1);
+        Visit[] testVisits = {new Visit(DANIEL, DANIEL_LOCATION, INFECTION_DATE),
+            new Visit(ELLE, DANIEL_LOCATION, INFECTION_DATE), new Visit(ELLE, ELLE_LOCATION, dayAfter),
+            new Visit(FIONA, ELLE_LOCATION, dayAfter)};
+        for (Visit testVisit : testVisits) {
+            model.addVisit(testVisit);
+            expectedModel.addVisit(testVisit);
+        }
+        expectedModel.updateFilteredPersonList(person -> person.equals(ELLE) || person.equals(FIONA));
+        String expectedMessage = String.format(GeneratePeopleCommand.MESSAGE_SUCCESS_WITH_DEGREES, 2,
+                DANIEL.getName(), "[1, 1]");
+        GeneratePeopleCommand command = new GeneratePeopleCommand(new IndexIdPairStub(Index.fromOneBased(4), null), 2);
+        assertCommandSuccess(command, model, new CommandResult(expectedMessage), expectedModel);
+    }
 }
@@ -29,8 +29,14 @@ import seedu.address.model.ModelPredicate;
 import seedu.address.model.ModelStub;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.location.Location;
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.location.ReadOnlyLocationBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -192,6 +198,24 @@ public class ListCommandTest {
         private ObservableList<Person> personList = FXCollections.observableList(new ArrayList<>());
         private ObservableList<Location> locationList = FXCollections.observableList(new ArrayList<>());
         private ObservableList<Visit> visitList = FXCollections.observableList(new ArrayList<>());
+        private PersonBook personBook = new PersonBook();
+        private LocationBook locationBook = new LocationBook();
+        private VisitBook visitBook = new VisitBook();
+
+        @Override
+        public ReadOnlyPersonBook getPersonBook() {
+            return personBook;
+        }
+
+        @Override
+        public ReadOnlyLocationBook getLocationBook() {
+            return locationBook;
+        }
+
+        @Override
+        public ReadOnlyVisitBook getVisitBook() {
+            return visitBook;
+        }
 
         @Override
         public ObservableList<Person> getSortedPersonList() {
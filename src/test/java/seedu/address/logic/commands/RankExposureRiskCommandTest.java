@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.RankExposureRiskCommand.MESSAGE_NO_INFECTED_PEOPLE;
+import static seedu.address.logic.commands.RankExposureRiskCommand.MESSAGE_NO_PEOPLE_AT_RISK;
+import static seedu.address.logic.commands.RankExposureRiskCommand.MESSAGE_RANK;
+import static seedu.address.logic.commands.RankExposureRiskCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.ELLE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ExposureRiskScorer;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+
+public class RankExposureRiskCommandTest {
+    // The typical infected people were all infected on this date.
+    private static final LocalDate INFECTION_DATE = DANIEL.getInfectionStatus().getInfectionDate().get();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nonPositiveNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RankExposureRiskCommand(0));
+    }
+
+    @Test
+    public void equals() {
+        RankExposureRiskCommand rankFive = new RankExposureRiskCommand(5);
+
+        // same object -> returns true
+        assertTrue(rankFive.equals(rankFive));
+
+        // same values -> returns true
+        assertTrue(rankFive.equals(new RankExposureRiskCommand(5)));
+        assertTrue(new RankExposureRiskCommand().equals(
+                new RankExposureRiskCommand(RankExposureRiskCommand.DEFAULT_NUMBER_OF_PEOPLE)));
+
+        // different types -> returns false
+        assertFalse(rankFive.equals(1));
+
+        // null -> returns false
+        assertFalse(rankFive.equals(null));
+
+        // different number of people -> returns false
+        assertFalse(rankFive.equals(new RankExposureRiskCommand(6)));
+    }
+
+    @Test
+    public void execute_noInfectedPeople_throwsCommandException() {
+        Model emptyModel = new ModelManager(new PersonBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        assertCommandFailure(new RankExposureRiskCommand(), emptyModel, MESSAGE_NO_INFECTED_PEOPLE);
+    }
+
+    @Test
+    public void execute_noContactsInExposureWindow_throwsCommandException() {
+        assertCommandFailure(new RankExposureRiskCommand(), model, MESSAGE_NO_PEOPLE_AT_RISK);
+    }
+
+    @Test
+    public void execute_contactsInExposureWindow_topPeopleListed() {
+        Visit[] testVisits = {new Visit(DANIEL, DANIEL_LOCATION, INFECTION_DATE),
+            new Visit(CARL, DANIEL_LOCATION, INFECTION_DATE), new Visit(ELLE, ELLE_LOCATION, INFECTION_DATE),
+            new Visit(CARL, ELLE_LOCATION, INFECTION_DATE), new Visit(ALICE, ELLE_LOCATION, INFECTION_DATE)};
+        for (Visit testVisit : testVisits) {
+            model.addVisit(testVisit);
+            expectedModel.addVisit(testVisit);
+        }
+        double recencyWeight = ExposureRiskScorer.getRecencyWeight(
+                (int) ChronoUnit.DAYS.between(INFECTION_DATE, LocalDate.now()));
+
+        // Carl shared two visits with infected people, so Carl ranks above Alice.
+        expectedModel.updateFilteredPersonList(person -> person.equals(CARL));
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 1,
+                String.format(MESSAGE_RANK, 1, CARL.getName(), 2 * recencyWeight));
+        assertCommandSuccess(new RankExposureRiskCommand(1), model, expectedMessage, expectedModel);
+
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(CARL));
+        expectedMessage = String.format(MESSAGE_SUCCESS, 2,
+                String.format(MESSAGE_RANK, 1, CARL.getName(), 2 * recencyWeight) + "\n"
+                + String.format(MESSAGE_RANK, 2, ALICE.getName(), recencyWeight));
+        assertCommandSuccess(new RankExposureRiskCommand(), model, expectedMessage, expectedModel);
+    }
+}
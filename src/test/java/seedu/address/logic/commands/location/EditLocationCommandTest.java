@@ -52,7 +52,6 @@ class EditLocationCommandTest {
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
 
         expectedModel.setLocation(model.getSortedLocationList().get(0), editedLocation);
-        expectedModel.updateVisitBookWithEditedLocation(editedLocation);
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(editLocationCommand, model, expectedCommandResult, expectedModel);
@@ -75,7 +74,6 @@ class EditLocationCommandTest {
         Model expectedModel = new ModelManager(new PersonBook(model.getPersonBook()),
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
         expectedModel.setLocation(lastLocation, editedLocation);
-        expectedModel.updateVisitBookWithEditedLocation(editedLocation);
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(editLocationCommand, model, expectedCommandResult, expectedModel);
@@ -91,7 +89,6 @@ class EditLocationCommandTest {
 
         Model expectedModel = new ModelManager(new PersonBook(model.getPersonBook()),
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
-        expectedModel.updateVisitBookWithEditedLocation(editedLocation);
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(editLocationCommand, model, expectedCommandResult, expectedModel);
@@ -112,7 +109,6 @@ class EditLocationCommandTest {
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
         showLocationAtIndex(expectedModel, INDEX_FIRST);
         expectedModel.setLocation(model.getSortedLocationList().get(0), editedLocation);
-        expectedModel.updateVisitBookWithEditedLocation(editedLocation);
 
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
@@ -0,0 +1,118 @@
+package seedu.address.logic.commands.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_LOCATIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.ELLE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.FIONA_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.LocationNameContainsKeywordsPredicate;
+import seedu.address.testutil.LocationBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindLocationCommand}.
+ */
+public class FindLocationCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        LocationNameContainsKeywordsPredicate firstPredicate =
+                new LocationNameContainsKeywordsPredicate(Collections.singletonList("first"));
+        LocationNameContainsKeywordsPredicate secondPredicate =
+                new LocationNameContainsKeywordsPredicate(Collections.singletonList("second"));
+
+        FindLocationCommand findFirstCommand = new FindLocationCommand(firstPredicate);
+        FindLocationCommand findSecondCommand = new FindLocationCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        FindLocationCommand findFirstCommandCopy = new FindLocationCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_zeroKeywords_noLocationFound() {
+        String expectedMessage = String.format(MESSAGE_LOCATIONS_LISTED_OVERVIEW, 0);
+        LocationNameContainsKeywordsPredicate predicate = preparePredicate(" ");
+        FindLocationCommand command = new FindLocationCommand(predicate);
+        expectedModel.updateFilteredLocationList(predicate);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Collections.emptyList(), model.getSortedLocationList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_multipleLocationsFound() {
+        String expectedMessage = String.format(MESSAGE_LOCATIONS_LISTED_OVERVIEW, 3);
+        LocationNameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        FindLocationCommand command = new FindLocationCommand(predicate);
+        expectedModel.updateFilteredLocationList(predicate);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(CARL_LOCATION, ELLE_LOCATION, FIONA_LOCATION), model.getSortedLocationList());
+    }
+
+    @Test
+    public void execute_prefixKeywords_multipleLocationsFound() {
+        String expectedMessage = String.format(MESSAGE_LOCATIONS_LISTED_OVERVIEW, 3);
+        LocationNameContainsKeywordsPredicate predicate = preparePredicate("mei* ALI*");
+        FindLocationCommand command = new FindLocationCommand(predicate);
+        expectedModel.updateFilteredLocationList(predicate);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(ALICE_LOCATION, BENSON_LOCATION, DANIEL_LOCATION), model.getSortedLocationList());
+    }
+
+    @Test
+    public void execute_locationsEditedAfterFind_filteredListUpdated() throws Exception {
+        new FindLocationCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        Location renamedAlice = new LocationBuilder(ALICE_LOCATION).withName("Alice Kurz House").build();
+        model.setLocation(ALICE_LOCATION, renamedAlice);
+        Location renamedFiona = new LocationBuilder(FIONA_LOCATION).withName("Fiona Tan House").build();
+        model.setLocation(FIONA_LOCATION, renamedFiona);
+
+        assertEquals(Arrays.asList(renamedAlice, CARL_LOCATION, ELLE_LOCATION), model.getSortedLocationList());
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code LocationNameContainsKeywordsPredicate}.
+     */
+    private LocationNameContainsKeywordsPredicate preparePredicate(String userInput) {
+        return new LocationNameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
@@ -52,7 +52,6 @@ public class EditPersonCommandTest {
         Model expectedModel = new ModelManager(new PersonBook(model.getPersonBook()),
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
         expectedModel.setPerson(model.getSortedPersonList().get(0), editedPerson);
-        expectedModel.updateVisitBookWithEditedPerson(editedPerson);
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
         assertCommandSuccess(editPersonCommand, model, expectedCommandResult, expectedModel);
     }
@@ -75,7 +74,6 @@ public class EditPersonCommandTest {
         Model expectedModel = new ModelManager(new PersonBook(model.getPersonBook()),
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
         expectedModel.setPerson(lastPerson, editedPerson);
-        expectedModel.updateVisitBookWithEditedPerson(editedPerson);
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(editPersonCommand, model, expectedCommandResult, expectedModel);
@@ -91,7 +89,6 @@ public class EditPersonCommandTest {
 
         Model expectedModel = new ModelManager(new PersonBook(model.getPersonBook()),
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
-        expectedModel.updateVisitBookWithEditedPerson(editedPerson);
 
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
@@ -113,7 +110,6 @@ public class EditPersonCommandTest {
                 new LocationBook(model.getLocationBook()), new VisitBook(model.getVisitBook()), new UserPrefs());
         showPersonAtIndex(expectedModel, INDEX_FIRST);
         expectedModel.setPerson(model.getSortedPersonList().get(0), editedPerson);
-        expectedModel.updateVisitBookWithEditedPerson(editedPerson);
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(editPersonCommand, model, expectedCommandResult, expectedModel);
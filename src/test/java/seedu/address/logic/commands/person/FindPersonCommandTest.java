@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -21,7 +22,9 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonNameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindPersonCommand}.
@@ -81,6 +84,29 @@ public class FindPersonCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getSortedPersonList());
     }
 
+    @Test
+    public void execute_prefixKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PersonNameContainsKeywordsPredicate predicate = preparePredicate("ku* ELL*");
+        FindPersonCommand command = new FindPersonCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        CommandResult expectedCommandResult = new CommandResult(expectedMessage);
+        assertCommandSuccess(command, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getSortedPersonList());
+    }
+
+    @Test
+    public void execute_personsEditedAfterFind_filteredListUpdated() throws Exception {
+        new FindPersonCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        model.setPerson(ALICE, renamedAlice);
+        Person renamedFiona = new PersonBuilder(FIONA).withName("Fiona Tan").build();
+        model.setPerson(FIONA, renamedFiona);
+
+        assertEquals(Arrays.asList(renamedAlice, CARL, ELLE), model.getSortedPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code PersonNameContainsKeywordsPredicate}.
      */
@@ -88,7 +88,8 @@ public class AddVisitCommandTest {
             CommandResult commandResult = new AddVisitCommand(DEFAULT_PERSON_INDEX, DEFAULT_LOCATION_INDEX,
                     DEFAULT_DATE).execute(modelStub);
 
-            assertEquals(String.format(AddVisitCommand.MESSAGE_SUCCESS, validVisit),
+            assertEquals(String.format(AddVisitCommand.MESSAGE_SUCCESS,
+                    describeVisit(DEFAULT_PERSON, DEFAULT_LOCATION, validVisit)),
                     commandResult.getFeedbackToUser());
             assertEquals(Collections.singletonList(validVisit), modelStub.visitsAdded);
         } catch (CommandException e) {
@@ -106,7 +107,8 @@ public class AddVisitCommandTest {
             CommandResult commandResult = new AddVisitCommand(DEFAULT_PERSON_ID, DEFAULT_LOCATION_ID,
                     DEFAULT_DATE).execute(modelStub);
 
-            assertEquals(String.format(AddVisitCommand.MESSAGE_SUCCESS, validVisit),
+            assertEquals(String.format(AddVisitCommand.MESSAGE_SUCCESS,
+                    describeVisit(DEFAULT_PERSON, DEFAULT_LOCATION, validVisit)),
                     commandResult.getFeedbackToUser());
             assertEquals(Collections.singletonList(validVisit), modelStub.visitsAdded);
         } catch (CommandException e) {
@@ -147,7 +149,7 @@ public class AddVisitCommandTest {
                 .withLocation(DEFAULT_LOCATION).withPerson(DEFAULT_PERSON).build();
         Model expectedModel = new ModelStubAcceptingVisitAdded();
         expectedModel.addVisit(visit);
-        String expectedMsg = String.format(MESSAGE_NO_WARNING, visit);
+        String expectedMsg = String.format(MESSAGE_NO_WARNING, describeVisit(DEFAULT_PERSON, DEFAULT_LOCATION, visit));
         CommandResult expectedCommandResult = new CommandResult(expectedMsg);
         assertCommandSuccess(addvisitCommand, modelStub, expectedCommandResult, expectedModel);
 
@@ -159,7 +161,7 @@ public class AddVisitCommandTest {
                 .withLocation(DEFAULT_LOCATION).withPerson(DEFAULT_PERSON).build();
         expectedModel = new ModelStubAcceptingVisitAdded();
         expectedModel.addVisit(visit);
-        expectedMsg = String.format(MESSAGE_NO_WARNING, visit);
+        expectedMsg = String.format(MESSAGE_NO_WARNING, describeVisit(DEFAULT_PERSON, DEFAULT_LOCATION, visit));
         expectedCommandResult = new CommandResult(expectedMsg);
         assertCommandSuccess(addvisitCommand, modelStub, expectedCommandResult, expectedModel);
     }
@@ -240,7 +242,8 @@ public class AddVisitCommandTest {
         AddVisitCommand actualCommand = new AddVisitCommand(INDEX_THIRD, INDEX_SECOND,
                 DEFAULT_DATE);
 
-        String expectedMessage = String.format(MESSAGE_NO_WARNING, visit);
+        String expectedMessage = String.format(MESSAGE_NO_WARNING,
+                describeVisit(HEALTHY_PERSON, DEFAULT_LOCATION, visit));
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
         assertCommandSuccess(actualCommand, model, expectedCommandResult, expectedModel);
     }
@@ -257,7 +260,8 @@ public class AddVisitCommandTest {
 
         AddVisitCommand actualCommand = new AddVisitCommand(INDEX_FOURTH, INDEX_SECOND,
                 DEFAULT_DATE);
-        String expectedMessage = String.format(AddVisitCommand.MESSAGE_INFECTED_MADE_VISIT, visitWithInfected);
+        String expectedMessage = String.format(AddVisitCommand.MESSAGE_INFECTED_MADE_VISIT,
+                describeVisit(INFECTED_PERSON, DEFAULT_LOCATION, visitWithInfected));
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(actualCommand, model, expectedCommandResult, expectedModel);
@@ -275,7 +279,8 @@ public class AddVisitCommandTest {
 
         AddVisitCommand actualCommand = new AddVisitCommand(INDEX_FIRST, INDEX_SECOND,
                 DEFAULT_DATE);
-        String expectedMessage = String.format(AddVisitCommand.MESSAGE_QUARANTINED_MADE_VISIT, visitWithQuarantined);
+        String expectedMessage = String.format(AddVisitCommand.MESSAGE_QUARANTINED_MADE_VISIT,
+                describeVisit(QUARANTINED_PERSON, DEFAULT_LOCATION, visitWithQuarantined));
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(actualCommand, model, expectedCommandResult, expectedModel);
@@ -294,7 +299,7 @@ public class AddVisitCommandTest {
 
         AddVisitCommand actualCommand = new AddVisitCommand(INDEX_SECOND, INDEX_SIXTH, DEFAULT_DATE);
         String expectedMessage = String.format(AddVisitCommand.MESSAGE_INFECTED_AND_QUARANTINED_MADE_VISIT,
-                visitWithInfectedAndQuarantined);
+                describeVisit(INFECTED_AND_QUARANTINED_PERSON, FIONA_LOCATION, visitWithInfectedAndQuarantined));
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(actualCommand, model, expectedCommandResult, expectedModel);
@@ -316,7 +321,7 @@ public class AddVisitCommandTest {
 
         AddVisitCommand actualCommand = new AddVisitCommand(INDEX_SECOND, DEFAULT_LOCATION_INDEX, DEFAULT_DATE);
         String expectedMessage = String.format(MESSAGE_NO_WARNING,
-                visitWithInfectedAndQuarantined);
+                describeVisit(INFECTED_AND_QUARANTINED_PERSON, DEFAULT_LOCATION, visitWithInfectedAndQuarantined));
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(actualCommand, model, expectedCommandResult, expectedModel);
@@ -339,7 +344,8 @@ public class AddVisitCommandTest {
 
         AddVisitCommand actualCommand = new AddVisitCommand(INDEX_SECOND, DEFAULT_LOCATION_INDEX,
                 LocalDate.parse("2020-11-04"));
-        String expectedMessage = String.format(MESSAGE_NO_WARNING, visitWithInfectedAndQuarantined);
+        String expectedMessage = String.format(MESSAGE_NO_WARNING,
+                describeVisit(INFECTED_AND_QUARANTINED_PERSON, DEFAULT_LOCATION, visitWithInfectedAndQuarantined));
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
 
         assertCommandSuccess(actualCommand, model, expectedCommandResult, expectedModel);
@@ -374,6 +380,14 @@ public class AddVisitCommandTest {
         assertNotEquals(addSampleBCommand, addSampleACommand);
     }
 
+    /**
+     * Describes {@code visit} by the names of {@code person} and {@code location}, as the success message does.
+     */
+    private static String describeVisit(Person person, Location location, Visit visit) {
+        return String.format(DeleteVisitsCommand.MESSAGE_DELETED_VISIT, person.getName(), location.getName(),
+                visit.getDate().format(DeleteVisitsCommand.DELETED_VISIT_DATE_FORMAT));
+    }
+
     /**
      * A Model stub that contains a single visit.
      */
@@ -473,11 +487,17 @@ public class AddVisitCommandTest {
 
         @Override
         public Location getLocationById(Id id) {
-            return DEFAULT_LOCATION;
+            return FIONA_LOCATION.getId().equals(id) ? FIONA_LOCATION : DEFAULT_LOCATION;
         }
 
         @Override
         public Person getPersonById(Id id) {
+            for (Person person : List.of(INFECTED_PERSON, QUARANTINED_PERSON, HEALTHY_PERSON,
+                    INFECTED_AND_QUARANTINED_PERSON)) {
+                if (person.getId().equals(id)) {
+                    return person;
+                }
+            }
             return DEFAULT_PERSON;
         }
 
@@ -24,7 +24,11 @@ import seedu.address.model.ModelStub;
 import seedu.address.model.attribute.Id;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.LocationBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalVisitParametersContainers;
 import seedu.address.testutil.TypicalVisits;
 
@@ -158,6 +162,11 @@ public class AddVisitsFromCsvCommandTest {
             visitsAdded.add(visit);
         }
 
+        @Override
+        public ReadOnlyVisitBook getVisitBook() {
+            return new VisitBook();
+        }
+
         @Override
         public boolean equals(Object obj) {
             // short circuit if same object
@@ -193,14 +202,14 @@ public class AddVisitsFromCsvCommandTest {
         }
 
         public void addPersonInVisit(Visit visit) {
-            Person p = visit.getPerson();
+            Person p = new PersonBuilder().withId(visit.getPersonIdAsString()).build();
             if (!personListToCheck.contains(p)) {
                 personListToCheck.add(p);
             }
         }
 
         public void addLocationInVisit(Visit visit) {
-            Location loc = visit.getLocation();
+            Location loc = new LocationBuilder().withId(visit.getLocationIdAsString()).build();
             if (!locationListToCheck.contains(loc)) {
                 locationListToCheck.add(loc);
             }
@@ -1,13 +1,17 @@
 package seedu.address.logic.commands.visit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.visit.DeleteVisitsCommand.MESSAGE_DELETE_VISIT_FAILED;
 import static seedu.address.logic.commands.visit.DeleteVisitsCommand.MESSAGE_DELETE_VISIT_SUCCESS;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.FIRST_VISIT;
 import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
 import java.time.LocalDate;
@@ -38,7 +42,8 @@ public class DeleteVisitsCommandTest {
         List<Visit> visits = model.getSortedVisitList();
 
         for (int i = visits.size() - 4; i < visits.size(); i++) {
-            expectedMessage.append(i - 4).append(". ").append(visits.get(i)).append(" \n");
+            expectedMessage.append(i - 4).append(". ")
+                    .append(DeleteVisitsCommand.describeVisit(model, visits.get(i))).append(" \n");
         }
 
         DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -73,7 +78,8 @@ public class DeleteVisitsCommandTest {
         List<Visit> visits = model.getSortedVisitList();
 
         for (int i = visits.size() - 4; i < visits.size(); i++) {
-            expectedMessage.append(i - 4).append(". ").append(visits.get(i)).append(" \n");
+            expectedMessage.append(i - 4).append(". ")
+                    .append(DeleteVisitsCommand.describeVisit(model, visits.get(i))).append(" \n");
         }
 
         DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -94,6 +100,13 @@ public class DeleteVisitsCommandTest {
         assertCommandSuccess(deleteVisitsCommand, model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void describeVisit_typicalVisit_showsPersonAndLocationNames() {
+        String expected = " Person: " + BENSON.getName() + " Location: " + BENSON_LOCATION.getName()
+                + " Date: Sep 12 2020";
+        assertEquals(expected, DeleteVisitsCommand.describeVisit(model, FIRST_VISIT));
+    }
+
     @Test
     public void equals() {
         DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
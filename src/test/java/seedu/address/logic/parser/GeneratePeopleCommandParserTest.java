@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DEGREE;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
@@ -33,4 +34,17 @@ public class GeneratePeopleCommandParserTest {
         assertParseSuccess(parser, "1", expectedGeneratePeopleCommand);
     }
 
+    @Test
+    public void parse_validDegree_returnsGeneratePeopleCommand() {
+        GeneratePeopleCommand expectedGeneratePeopleCommand =
+                new GeneratePeopleCommand(new IndexIdPairStub(INDEX_FIRST, null), 3);
+        assertParseSuccess(parser, "1 deg/3", expectedGeneratePeopleCommand);
+    }
+
+    @Test
+    public void parse_invalidDegree_throwsParseException() {
+        assertParseFailure(parser, "1 deg/0", MESSAGE_INVALID_DEGREE);
+        assertParseFailure(parser, "1 deg/6", MESSAGE_INVALID_DEGREE);
+    }
+
 }
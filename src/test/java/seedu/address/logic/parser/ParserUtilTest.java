@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DEGREE;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
@@ -53,6 +54,19 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseDegree_outOfRangeInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_DEGREE, () -> ParserUtil.parseDegree("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DEGREE, () -> ParserUtil.parseDegree("6"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DEGREE, () -> ParserUtil.parseDegree("two"));
+    }
+
+    @Test
+    public void parseDegree_validInput_success() throws Exception {
+        assertEquals(1, ParserUtil.parseDegree("1"));
+        assertEquals(5, ParserUtil.parseDegree("  5  "));
+    }
+
     @Test
     public void parseId_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseId((String) null));
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RankExposureRiskCommand;
+
+public class RankExposureRiskCommandParserTest {
+
+    private RankExposureRiskCommandParser parser = new RankExposureRiskCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsDefaultRankExposureRiskCommand() {
+        assertParseSuccess(parser, "     ", new RankExposureRiskCommand());
+    }
+
+    @Test
+    public void parse_validNumber_returnsRankExposureRiskCommand() {
+        assertParseSuccess(parser, " 5 ", new RankExposureRiskCommand(5));
+    }
+
+    @Test
+    public void parse_invalidNumber_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankExposureRiskCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-1", expectedMessage);
+        assertParseFailure(parser, "five", expectedMessage);
+    }
+}
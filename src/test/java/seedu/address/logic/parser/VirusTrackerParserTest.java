@@ -28,15 +28,18 @@ import seedu.address.logic.commands.AddFromCsvCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportToCsvCommand;
+import seedu.address.logic.commands.GenerateAllPeopleCommand;
 import seedu.address.logic.commands.GenerateLocationsCommand;
 import seedu.address.logic.commands.GeneratePeopleCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RankExposureRiskCommand;
 import seedu.address.logic.commands.location.AddLocationCommand;
 import seedu.address.logic.commands.location.AddLocationsFromCsvCommand;
 import seedu.address.logic.commands.location.DeleteLocationCommand;
 import seedu.address.logic.commands.location.EditLocationCommand;
 import seedu.address.logic.commands.location.EditLocationCommand.EditLocationDescriptor;
+import seedu.address.logic.commands.location.FindLocationCommand;
 import seedu.address.logic.commands.person.AddPersonCommand;
 import seedu.address.logic.commands.person.AddPersonsFromCsvCommand;
 import seedu.address.logic.commands.person.DeletePersonCommand;
@@ -48,6 +51,7 @@ import seedu.address.logic.commands.visit.DeleteVisitCommand;
 import seedu.address.logic.commands.visit.DeleteVisitsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.location.Location;
+import seedu.address.model.location.LocationNameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonNameContainsKeywordsPredicate;
 import seedu.address.testutil.EditLocationDescriptorBuilder;
@@ -156,6 +160,14 @@ public class VirusTrackerParserTest {
         assertEquals(new FindPersonCommand(new PersonNameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findLocation() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar*", "baz");
+        FindLocationCommand command = (FindLocationCommand) parser.parseCommand(
+                FindLocationCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindLocationCommand(new LocationNameContainsKeywordsPredicate(keywords)), command);
+    }
+
     @Test
     public void parseCommand_generateLocations() throws Exception {
         String userInput = GenerateLocationsCommand.COMMAND_WORD + " 1";
@@ -170,6 +182,19 @@ public class VirusTrackerParserTest {
         assertEquals(new GeneratePeopleCommand(new IndexIdPair(INDEX_FIRST, null, PREFIX_PERSON_ID)), command);
     }
 
+    @Test
+    public void parseCommand_generateAllPeople() throws Exception {
+        assertTrue(parser.parseCommand(GenerateAllPeopleCommand.COMMAND_WORD) instanceof GenerateAllPeopleCommand);
+    }
+
+    @Test
+    public void parseCommand_rankExposureRisk() throws Exception {
+        assertEquals(new RankExposureRiskCommand(),
+                parser.parseCommand(RankExposureRiskCommand.COMMAND_WORD));
+        assertEquals(new RankExposureRiskCommand(3),
+                parser.parseCommand(RankExposureRiskCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
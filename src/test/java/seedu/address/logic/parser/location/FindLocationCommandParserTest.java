@@ -0,0 +1,35 @@
+package seedu.address.logic.parser.location;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.location.FindLocationCommand;
+import seedu.address.model.location.LocationNameContainsKeywordsPredicate;
+
+public class FindLocationCommandParserTest {
+
+    private FindLocationCommandParser parser = new FindLocationCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLocationCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindLocationCommand() {
+        // no leading and trailing whitespaces
+        FindLocationCommand expectedFindLocationCommand =
+                new FindLocationCommand(new LocationNameContainsKeywordsPredicate(Arrays.asList("Changi", "viv*")));
+        assertParseSuccess(parser, "Changi viv*", expectedFindLocationCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Changi \n \t viv*  \t", expectedFindLocationCommand);
+    }
+
+}
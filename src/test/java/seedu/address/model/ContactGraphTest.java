@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLocations.AMY_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.THIRD_VISIT;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.VisitBuilder;
+
+public class ContactGraphTest {
+
+    private static final LocalDate SEPTEMBER_12 = LocalDate.of(2020, 9, 12);
+    private static final LocalDate SEPTEMBER_15 = LocalDate.of(2020, 9, 15);
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+    private final ContactGraph contactGraph = model.getContactGraph();
+
+    @Test
+    public void constructor_typicalVisitBook_contactsFound() {
+        assertEquals(Map.of(AMY.getId(), SEPTEMBER_12), contactGraph.getContacts(ALICE.getId()));
+        assertEquals(Map.of(ALICE.getId(), SEPTEMBER_12), contactGraph.getContacts(AMY.getId()));
+        assertEquals(Map.of(), contactGraph.getContacts(CARL.getId()));
+        assertMatchesRebuiltGraph();
+    }
+
+    @Test
+    public void addVisit_sharedLocationAndDay_contactsUpdated() {
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(AMY_LOCATION).withDate("2020-09-12").build());
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(CARL_LOCATION).withDate("2020-09-15").build());
+        model.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(CARL_LOCATION).withDate("2020-09-15")
+                .build());
+
+        assertEquals(Map.of(AMY.getId(), SEPTEMBER_12, CARL.getId(), SEPTEMBER_15),
+                contactGraph.getContacts(ALICE.getId()));
+        assertEquals(Map.of(ALICE.getId(), SEPTEMBER_15, AMY.getId(), SEPTEMBER_12),
+                contactGraph.getContacts(CARL.getId()));
+        assertMatchesRebuiltGraph();
+    }
+
+    @Test
+    public void deleteVisit_onlySharedVisit_contactRemoved() {
+        model.deleteVisit(THIRD_VISIT);
+
+        assertEquals(Map.of(), contactGraph.getContacts(ALICE.getId()));
+        assertEquals(Map.of(), contactGraph.getContacts(AMY.getId()));
+        assertMatchesRebuiltGraph();
+    }
+
+    @Test
+    public void setVisit_differentPerson_contactMoved() {
+        model.setVisit(THIRD_VISIT, new VisitBuilder(THIRD_VISIT).withPerson(CARL).build());
+
+        assertEquals(Map.of(), contactGraph.getContacts(ALICE.getId()));
+        assertEquals(Map.of(CARL.getId(), SEPTEMBER_12), contactGraph.getContacts(AMY.getId()));
+        assertMatchesRebuiltGraph();
+    }
+
+    @Test
+    public void deleteVisitsWithLocation_contactsAtLocation_contactsRemoved() {
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(AMY_LOCATION).withDate("2020-09-12").build());
+        model.deleteVisitsWithLocation(AMY_LOCATION);
+
+        assertEquals(0, contactGraph.getNumberOfContactPairs());
+        assertMatchesRebuiltGraph();
+    }
+
+    @Test
+    public void setVisitBook_newVisitBook_graphRebuilt() {
+        VisitBook visitBook = new VisitBook();
+        visitBook.addVisit(new VisitBuilder().withPerson(BENSON).withLocation(CARL_LOCATION)
+                .withDate("2020-09-15").build());
+        visitBook.addVisit(new VisitBuilder().withPerson(CARL).withLocation(CARL_LOCATION)
+                .withDate("2020-09-15").build());
+
+        model.setVisitBook(visitBook);
+
+        assertEquals(Map.of(), contactGraph.getContacts(ALICE.getId()));
+        assertEquals(Map.of(CARL.getId(), SEPTEMBER_15), contactGraph.getContacts(BENSON.getId()));
+        assertMatchesRebuiltGraph();
+    }
+
+    @Test
+    public void getContactIdsBetween_contactOutsidePeriod_excluded() {
+        assertEquals(Set.of(AMY.getId()), contactGraph.getContactIdsBetween(ALICE.getId(), SEPTEMBER_12,
+                SEPTEMBER_15));
+        assertEquals(Set.of(), contactGraph.getContactIdsBetween(ALICE.getId(), SEPTEMBER_12.plusDays(1),
+                SEPTEMBER_15));
+        assertEquals(Set.of(), contactGraph.getContactIdsBetween(CARL.getId(), SEPTEMBER_12, SEPTEMBER_15));
+    }
+
+    /**
+     * Asserts that the contact graph of the model is the same as one built from scratch from its visit book.
+     */
+    private void assertMatchesRebuiltGraph() {
+        ContactGraph rebuiltGraph = new ContactGraph(new VisitBook(model.getVisitBook()));
+        assertEquals(rebuiltGraph.getNumberOfContactPairs(), contactGraph.getNumberOfContactPairs());
+        for (Visit visit : model.getVisitBook().getVisitList()) {
+            assertEquals(rebuiltGraph.getContacts(visit.getPersonId()), contactGraph.getContacts(visit.getPersonId()));
+        }
+    }
+}
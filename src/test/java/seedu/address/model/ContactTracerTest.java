@@ -0,0 +1,168 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.AMY_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BOB_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attribute.Id;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.VisitBuilder;
+
+public class ContactTracerTest {
+
+    private static final Visit ALICE_AT_AMY = new VisitBuilder().withPerson(ALICE)
+            .withLocation(AMY_LOCATION).withDate("2020-09-12").build();
+    private static final Visit BENSON_AT_AMY = new VisitBuilder().withPerson(BENSON)
+            .withLocation(AMY_LOCATION).withDate("2020-09-12").build();
+    private static final Visit CARL_AT_AMY_NEXT_DAY = new VisitBuilder().withPerson(CARL)
+            .withLocation(AMY_LOCATION).withDate("2020-09-13").build();
+    private static final Visit ALICE_AT_BOB_LATER = new VisitBuilder().withPerson(ALICE)
+            .withLocation(BOB_LOCATION).withDate("2020-09-20").build();
+    private static final Visit BOB_AT_BOB_LATER = new VisitBuilder().withPerson(BOB)
+            .withLocation(BOB_LOCATION).withDate("2020-09-20").build();
+    private static final Visit BENSON_AT_BOB_LATER = new VisitBuilder().withPerson(BENSON)
+            .withLocation(BOB_LOCATION).withDate("2020-09-20").build();
+    private static final Visit BENSON_AT_CARL_EARLIER = new VisitBuilder().withPerson(BENSON)
+            .withLocation(CARL_LOCATION).withDate("2020-09-10").build();
+    private static final Visit CARL_AT_CARL_EARLIER = new VisitBuilder().withPerson(CARL)
+            .withLocation(CARL_LOCATION).withDate("2020-09-10").build();
+    private static final LocalDate START_DATE = LocalDate.of(2020, 9, 7);
+    private static final LocalDate END_DATE = LocalDate.of(2020, 9, 20);
+    private static final LocalDate INFECTION_DATE = LocalDate.of(2020, 9, 13);
+    private static final ExposureWindow EXPOSURE_WINDOW = new ExposureWindow(7, 7);
+
+    private final VisitBook visitBook = new VisitBook();
+    private final ContactTracer contactTracer = new ContactTracer(visitBook);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ContactTracer(null));
+    }
+
+    @Test
+    public void getVisitsByPersonBetween_visitsOutsidePeriod_excluded() {
+        addVisits(ALICE_AT_AMY, BENSON_AT_AMY, ALICE_AT_BOB_LATER);
+
+        assertEquals(List.of(ALICE_AT_AMY, ALICE_AT_BOB_LATER), contactTracer.getVisitsByPersonBetween(
+                ALICE.getId(), LocalDate.of(2020, 9, 12), LocalDate.of(2020, 9, 20)));
+        assertEquals(List.of(ALICE_AT_BOB_LATER), contactTracer.getVisitsByPersonBetween(
+                ALICE.getId(), LocalDate.of(2020, 9, 13), LocalDate.of(2020, 9, 20)));
+        assertEquals(List.of(), contactTracer.getVisitsByPersonBetween(
+                ALICE.getId(), LocalDate.of(2020, 9, 13), LocalDate.of(2020, 9, 19)));
+    }
+
+    @Test
+    public void getContactIdsByDegree_contactsOfContacts_groupedByDegree() {
+        addVisits(ALICE_AT_AMY, BENSON_AT_AMY, BENSON_AT_BOB_LATER, BOB_AT_BOB_LATER);
+
+        assertEquals(List.of(Set.of(BENSON.getId()), Set.of(BOB.getId())),
+                contactTracer.getContactIdsByDegree(ALICE.getId(), START_DATE, END_DATE, 3));
+        assertEquals(List.of(Set.of(BENSON.getId())),
+                contactTracer.getContactIdsByDegree(ALICE.getId(), START_DATE, END_DATE, 1));
+        assertEquals(List.of(Set.of(BENSON.getId())),
+                contactTracer.getContactIdsByDegree(ALICE.getId(), START_DATE, END_DATE.minusDays(1), 3));
+    }
+
+    @Test
+    public void getContactIdsByDegree_contactBeforeExposure_notTraced() {
+        addVisits(ALICE_AT_AMY, BENSON_AT_AMY, BENSON_AT_CARL_EARLIER, CARL_AT_CARL_EARLIER);
+
+        assertEquals(List.of(Set.of(BENSON.getId())),
+                contactTracer.getContactIdsByDegree(ALICE.getId(), START_DATE, END_DATE, 3));
+    }
+
+    @Test
+    public void getContactIdsByDegree_personReachedEarlier_notRepeated() {
+        addVisits(ALICE_AT_AMY, BENSON_AT_AMY, ALICE_AT_BOB_LATER, BOB_AT_BOB_LATER, BENSON_AT_BOB_LATER);
+
+        assertEquals(List.of(Set.of(BENSON.getId(), BOB.getId())),
+                contactTracer.getContactIdsByDegree(ALICE.getId(), START_DATE, END_DATE, 3));
+    }
+
+    @Test
+    public void getContactIdsByDegree_personWithoutVisits_returnsEmptyList() {
+        addVisits(BENSON_AT_AMY);
+
+        assertEquals(List.of(), contactTracer.getContactIdsByDegree(ALICE.getId(), START_DATE, END_DATE, 3));
+    }
+
+    @Test
+    public void getContactIdsByDegree_nonPositiveDegree_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                contactTracer.getContactIdsByDegree(ALICE.getId(), START_DATE, END_DATE, 0));
+    }
+
+    @Test
+    public void getExposureCounts_overlappingContacts_countsEveryExposure() {
+        addVisits(ALICE_AT_AMY, BENSON_AT_AMY, CARL_AT_AMY_NEXT_DAY, ALICE_AT_BOB_LATER, BOB_AT_BOB_LATER,
+                BENSON_AT_BOB_LATER);
+        Map<Id, Integer> expectedCounts = new LinkedHashMap<>();
+        expectedCounts.put(ALICE.getId(), 2);
+        expectedCounts.put(BENSON.getId(), 2);
+        expectedCounts.put(BOB.getId(), 2);
+
+        Map<Id, Integer> exposureCounts = contactTracer.getExposureCounts(Map.of(ALICE.getId(), INFECTION_DATE,
+                BENSON.getId(), INFECTION_DATE), EXPOSURE_WINDOW, END_DATE);
+
+        assertEquals(expectedCounts, exposureCounts);
+        assertEquals(List.of(ALICE.getId(), BENSON.getId(), BOB.getId()), new ArrayList<>(exposureCounts.keySet()));
+    }
+
+    @Test
+    public void getExposureCounts_manyPeople_sameAsTracingEachPerson() {
+        // Enough people for the work to be split between several tasks.
+        Map<Id, LocalDate> infectionDates = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            Id personId = new Id(String.format("S%04d", i));
+            infectionDates.put(personId, INFECTION_DATE);
+            visitBook.addVisit(new Visit(personId, AMY_LOCATION.getId(), LocalDate.of(2020, 9, 10 + i % 5)));
+        }
+
+        Map<Id, Integer> exposureCounts = contactTracer.getExposureCounts(infectionDates, EXPOSURE_WINDOW, END_DATE);
+
+        assertEquals(200, exposureCounts.size());
+        for (Id personId : infectionDates.keySet()) {
+            assertEquals(39, (int) exposureCounts.get(personId));
+        }
+    }
+
+    @Test
+    public void getExposureCounts_visitsOutsideExposureWindow_notCounted() {
+        addVisits(ALICE_AT_BOB_LATER, BOB_AT_BOB_LATER);
+
+        // window ends before the visit
+        assertEquals(Map.of(), contactTracer.getExposureCounts(Map.of(ALICE.getId(), INFECTION_DATE),
+                new ExposureWindow(7, 6), END_DATE));
+        // window is cut off at today
+        assertEquals(Map.of(), contactTracer.getExposureCounts(Map.of(ALICE.getId(), INFECTION_DATE),
+                EXPOSURE_WINDOW, END_DATE.minusDays(1)));
+        // window is anchored to an earlier infection date
+        assertEquals(Map.of(), contactTracer.getExposureCounts(Map.of(ALICE.getId(), LocalDate.of(2020, 9, 1)),
+                EXPOSURE_WINDOW, END_DATE));
+        // person without visits
+        assertEquals(Map.of(), contactTracer.getExposureCounts(Map.of(CARL.getId(), INFECTION_DATE),
+                EXPOSURE_WINDOW, END_DATE));
+    }
+
+    private void addVisits(Visit... visits) {
+        for (Visit visit : visits) {
+            visitBook.addVisit(visit);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.AMY_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BOB_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attribute.Id;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExposureRiskScorerTest {
+
+    // Benson is infected, Alice and Carl are not.
+    private static final LocalDate INFECTION_DATE = BENSON.getInfectionStatus().getInfectionDate().get();
+    private static final LocalDate TODAY = INFECTION_DATE.plusDays(7);
+    private static final ExposureWindow EXPOSURE_WINDOW = new ExposureWindow(14, 14);
+
+    private final PersonBook personBook = new PersonBook();
+    private final VisitBook visitBook = new VisitBook();
+    private final HighRiskLocationTracker tracker = new HighRiskLocationTracker(personBook, visitBook);
+    private final ExposureRiskScorer scorer = new ExposureRiskScorer(personBook, visitBook, tracker);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExposureRiskScorer(null, visitBook, tracker));
+        assertThrows(NullPointerException.class, () -> new ExposureRiskScorer(personBook, null, tracker));
+        assertThrows(NullPointerException.class, () -> new ExposureRiskScorer(personBook, visitBook, null));
+    }
+
+    @Test
+    public void getTopScores_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> scorer.getTopScores(0, EXPOSURE_WINDOW, TODAY));
+    }
+
+    @Test
+    public void getRecencyWeight_daysAgo_halvesAfterHalvingDays() {
+        assertEquals(1, ExposureRiskScorer.getRecencyWeight(0));
+        assertEquals(1, ExposureRiskScorer.getRecencyWeight(-3));
+        assertEquals(0.5, ExposureRiskScorer.getRecencyWeight(ExposureRiskScorer.RECENCY_HALVING_DAYS));
+    }
+
+    @Test
+    public void getTopScores_sharedVisits_rankedByRecencyWeightedScore() {
+        addPeopleAndVisits(new Visit(BENSON, AMY_LOCATION, INFECTION_DATE),
+                new Visit(ALICE, AMY_LOCATION, INFECTION_DATE), new Visit(CARL, AMY_LOCATION, INFECTION_DATE),
+                new Visit(BENSON, BOB_LOCATION, TODAY), new Visit(CARL, BOB_LOCATION, TODAY));
+
+        Map<Id, Double> topScores = scorer.getTopScores(10, EXPOSURE_WINDOW, TODAY);
+
+        // Benson is infected, so Benson is not ranked.
+        assertEquals(List.of(CARL.getId(), ALICE.getId()), List.copyOf(topScores.keySet()));
+        assertEquals(1.5, (double) topScores.get(CARL.getId()));
+        assertEquals(0.5, (double) topScores.get(ALICE.getId()));
+        assertEquals(Map.of(CARL.getId(), 1.5), scorer.getTopScores(1, EXPOSURE_WINDOW, TODAY));
+    }
+
+    @Test
+    public void getTopScores_moreInfectedVisitsToLocation_higherScore() {
+        addPeopleAndVisits(new Visit(BENSON, AMY_LOCATION, TODAY), new Visit(ALICE, AMY_LOCATION, TODAY),
+                new Visit(BENSON, AMY_LOCATION, INFECTION_DATE));
+
+        assertEquals(Map.of(ALICE.getId(), 1 + Math.log(2)), scorer.getTopScores(10, EXPOSURE_WINDOW, TODAY));
+    }
+
+    @Test
+    public void getTopScores_visitsOutsideExposureWindow_notScored() {
+        addPeopleAndVisits(new Visit(BENSON, CARL_LOCATION, INFECTION_DATE.minusDays(15)),
+                new Visit(ALICE, CARL_LOCATION, INFECTION_DATE.minusDays(15)),
+                new Visit(BENSON, AMY_LOCATION, INFECTION_DATE.plusDays(1)),
+                new Visit(CARL, AMY_LOCATION, INFECTION_DATE.plusDays(1)));
+
+        assertEquals(Map.of(), scorer.getTopScores(10, EXPOSURE_WINDOW, INFECTION_DATE));
+    }
+
+    @Test
+    public void getTopScores_equalScores_orderedByFirstVisit() {
+        addPeopleAndVisits(new Visit(CARL, AMY_LOCATION, TODAY), new Visit(BENSON, AMY_LOCATION, TODAY),
+                new Visit(ALICE, AMY_LOCATION, TODAY));
+
+        assertEquals(List.of(CARL.getId(), ALICE.getId()),
+                List.copyOf(scorer.getTopScores(10, EXPOSURE_WINDOW, TODAY).keySet()));
+        assertEquals(List.of(CARL.getId()), List.copyOf(scorer.getTopScores(1, EXPOSURE_WINDOW, TODAY).keySet()));
+    }
+
+    @Test
+    public void getTopScores_limitLargerThanNumberOfPeople_ranksEveryone() {
+        addPeopleAndVisits(new Visit(CARL, AMY_LOCATION, TODAY), new Visit(BENSON, AMY_LOCATION, TODAY),
+                new Visit(ALICE, AMY_LOCATION, TODAY));
+
+        assertEquals(List.of(CARL.getId(), ALICE.getId()),
+                List.copyOf(scorer.getTopScores(Integer.MAX_VALUE, EXPOSURE_WINDOW, TODAY).keySet()));
+    }
+
+    @Test
+    public void getTopScores_manyInfectedPeople_scoresSummedAcrossTasks() {
+        addPeopleAndVisits(new Visit(ALICE, AMY_LOCATION, TODAY));
+        int numberOfInfectedPeople = 100;
+        for (int i = 0; i < numberOfInfectedPeople; i++) {
+            Person infectedPerson = new PersonBuilder(BENSON).withId("I" + (10000 + i)).withName("Infected " + i)
+                    .build();
+            personBook.addPerson(infectedPerson);
+            visitBook.addVisit(new Visit(infectedPerson, AMY_LOCATION, TODAY));
+        }
+
+        // Each infected person adds the weight of the location, which had every infected visit.
+        assertEquals(numberOfInfectedPeople * (1 + Math.log(numberOfInfectedPeople)),
+                (double) scorer.getTopScores(10, EXPOSURE_WINDOW, TODAY).get(ALICE.getId()), 1e-9);
+    }
+
+    private void addPeopleAndVisits(Visit... visits) {
+        personBook.addPerson(ALICE);
+        personBook.addPerson(BENSON);
+        personBook.addPerson(CARL);
+        for (Visit visit : visits) {
+            visitBook.addVisit(visit);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class ExposureWindowTest {
+
+    private static final LocalDate INFECTION_DATE = LocalDate.parse("2020-09-13");
+
+    @Test
+    public void constructor_negativeDays_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExposureWindow(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ExposureWindow(0, -1));
+    }
+
+    @Test
+    public void constructor_default_usesDefaultDays() {
+        ExposureWindow exposureWindow = new ExposureWindow();
+        assertEquals(ExposureWindow.DEFAULT_DAYS_BEFORE_INFECTION, exposureWindow.getDaysBeforeInfection());
+        assertEquals(ExposureWindow.DEFAULT_DAYS_AFTER_INFECTION, exposureWindow.getDaysAfterInfection());
+    }
+
+    @Test
+    public void getStartDate_nullInfectionDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExposureWindow().getStartDate(null));
+    }
+
+    @Test
+    public void getStartDate_validInfectionDate_returnsDaysBeforeInfection() {
+        assertEquals(LocalDate.parse("2020-09-06"), new ExposureWindow(7, 3).getStartDate(INFECTION_DATE));
+        assertEquals(INFECTION_DATE, new ExposureWindow(0, 3).getStartDate(INFECTION_DATE));
+    }
+
+    @Test
+    public void getEndDate_windowEndsBeforeToday_returnsDaysAfterInfection() {
+        assertEquals(LocalDate.parse("2020-09-16"),
+                new ExposureWindow(7, 3).getEndDate(INFECTION_DATE, LocalDate.parse("2020-10-01")));
+    }
+
+    @Test
+    public void getEndDate_windowEndsAfterToday_returnsToday() {
+        LocalDate today = LocalDate.parse("2020-09-14");
+        assertEquals(today, new ExposureWindow(7, 3).getEndDate(INFECTION_DATE, today));
+    }
+
+    @Test
+    public void equals() {
+        ExposureWindow exposureWindow = new ExposureWindow(7, 3);
+
+        // same values -> returns true
+        assertTrue(exposureWindow.equals(new ExposureWindow(7, 3)));
+
+        // same object -> returns true
+        assertTrue(exposureWindow.equals(exposureWindow));
+
+        // null -> returns false
+        assertFalse(exposureWindow.equals(null));
+
+        // different type -> returns false
+        assertFalse(exposureWindow.equals(7));
+
+        // different days before infection -> returns false
+        assertFalse(exposureWindow.equals(new ExposureWindow(8, 3)));
+
+        // different days after infection -> returns false
+        assertFalse(exposureWindow.equals(new ExposureWindow(7, 4)));
+    }
+}
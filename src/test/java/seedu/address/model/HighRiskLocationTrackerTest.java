@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.ELLE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.FIONA_LOCATION;
+import static seedu.address.testutil.TypicalLocations.GEORGE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getMoreThanSixtyPercentVisitBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attribute.Id;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+public class HighRiskLocationTrackerTest {
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+    private final HighRiskLocationTracker tracker = model.getHighRiskLocationTracker();
+
+    @Test
+    public void constructor_typicalBooks_matchesFullCount() {
+        assertMatchesFullCount();
+    }
+
+    @Test
+    public void getLocationIdsByInfectedVisitCount_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tracker.getLocationIdsByInfectedVisitCount(-1));
+    }
+
+    @Test
+    public void setVisitBook_mostInfectedVisitsAtOneLocation_locationRankedFirst() {
+        VisitBook visitBook = getMoreThanSixtyPercentVisitBook();
+        visitBook.addVisit(new VisitBuilder().withPerson(ELLE).withLocation(FIONA_LOCATION)
+                .withDate("2020-09-20").build());
+        model.setVisitBook(visitBook);
+
+        // FIONA_LOCATION has two infected visits; the rest have one each
+        assertEquals(List.of(FIONA_LOCATION.getId()), tracker.getLocationIdsByInfectedVisitCount(1));
+        assertEquals(Set.of(FIONA_LOCATION.getId(), GEORGE_LOCATION.getId(), ELLE_LOCATION.getId()),
+                new HashSet<>(tracker.getLocationIdsByInfectedVisitCount(Integer.MAX_VALUE)));
+        assertMatchesFullCount();
+
+        model.setVisitBook(new VisitBook());
+        assertEquals(List.of(), tracker.getLocationIdsByInfectedVisitCount(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void addVisit_infectedAndHealthyPersons_onlyInfectedVisitCounted() {
+        model.addVisit(new VisitBuilder().withPerson(ELLE).withLocation(FIONA_LOCATION)
+                .withDate("2020-09-20").build());
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(FIONA_LOCATION)
+                .withDate("2020-09-20").build());
+
+        assertEquals(2, tracker.getInfectedVisitCount(FIONA_LOCATION.getId()));
+        assertEquals(List.of(FIONA_LOCATION.getId()), tracker.getLocationIdsByInfectedVisitCount(1));
+        assertMatchesFullCount();
+    }
+
+    @Test
+    public void deleteVisit_infectedVisit_countDecreased() {
+        Visit elleVisit = new VisitBuilder().withPerson(ELLE).withLocation(FIONA_LOCATION)
+                .withDate("2020-09-20").build();
+        model.addVisit(elleVisit);
+        model.deleteVisit(elleVisit);
+
+        assertEquals(1, tracker.getInfectedVisitCount(FIONA_LOCATION.getId()));
+        assertMatchesFullCount();
+    }
+
+    @Test
+    public void setPerson_infectionStatusFlips_visitsOfPersonRecounted() {
+        Person infectedCarl = new PersonBuilder(CARL).withInfectionStatus("2020-09-10").build();
+        model.setPerson(CARL, infectedCarl);
+        assertEquals(1, tracker.getInfectedVisitCount(CARL_LOCATION.getId()));
+        assertMatchesFullCount();
+
+        model.setPerson(infectedCarl, CARL);
+        assertEquals(0, tracker.getInfectedVisitCount(CARL_LOCATION.getId()));
+        assertMatchesFullCount();
+    }
+
+    @Test
+    public void deletePerson_infectedPerson_visitsNoLongerCounted() {
+        int numberOfInfectedLocations = tracker.getNumberOfInfectedLocations();
+        model.deletePerson(DANIEL);
+
+        assertEquals(0, tracker.getInfectedVisitCount(DANIEL_LOCATION.getId()));
+        assertEquals(numberOfInfectedLocations - 1, tracker.getNumberOfInfectedLocations());
+        assertMatchesFullCount();
+    }
+
+    @Test
+    public void setVisitBook_newVisits_recounted() {
+        model.setVisitBook(getTypicalVisitBook());
+        assertMatchesFullCount();
+    }
+
+    /**
+     * Asserts that the tracker holds the same counts as a full count of the infected visits in the model.
+     */
+    private void assertMatchesFullCount() {
+        Map<Id, Integer> expectedCounts = new HashMap<>();
+        for (Visit visit : model.getVisitBook().getVisitList()) {
+            if (model.hasPersonId(visit.getPersonId()) && model.getPersonById(visit.getPersonId()).isInfected()) {
+                expectedCounts.merge(visit.getLocationId(), 1, Integer::sum);
+            }
+        }
+        List<Id> actualIds = tracker.getLocationIdsByInfectedVisitCount(Integer.MAX_VALUE);
+        assertEquals(expectedCounts.size(), tracker.getNumberOfInfectedLocations());
+        assertEquals(expectedCounts.keySet(), new HashSet<>(actualIds));
+        expectedCounts.forEach((locationId, count) ->
+                assertEquals(count.intValue(), tracker.getInfectedVisitCount(locationId)));
+        for (int i = 1; i < actualIds.size(); i++) {
+            assert tracker.getInfectedVisitCount(actualIds.get(i - 1))
+                    >= tracker.getInfectedVisitCount(actualIds.get(i));
+        }
+    }
+}
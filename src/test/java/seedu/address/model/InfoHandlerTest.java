@@ -21,10 +21,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QUARANTINE_STATUS;
 import static seedu.address.model.InfoHandler.INVALID_PERCENTAGE_STRING;
 import static seedu.address.model.InfoHandler.INVALID_RATIO;
-import static seedu.address.model.InfoHandler.getIdHashSetFromPersonsList;
-import static seedu.address.model.InfoHandler.getLocationIdsFromInfectedVisitList;
 import static seedu.address.model.InfoHandler.getNumberOfHighRiskLocations;
-import static seedu.address.model.InfoHandler.sortByValues;
 import static seedu.address.testutil.TypicalLocations.AMY_LOCATION;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocations;
 import static seedu.address.testutil.TypicalPersons.AMY;
@@ -32,10 +29,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 import static seedu.address.testutil.TypicalVisits.SECOND_VISIT;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -43,12 +38,9 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.model.attribute.Id;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
 import seedu.address.model.visit.Visit;
-import seedu.address.testutil.TypicalPersons;
-import seedu.address.testutil.TypicalVisits;
 
 
 public class InfoHandlerTest {
@@ -85,14 +77,6 @@ public class InfoHandlerTest {
         assertEquals(modelManager.getSortedVisitList(), infoHandler.getVisitList());
     }
 
-    @Test
-    public void updateModelPersonList_dummyPredicate_returnsTrue() {
-        Predicate<Person> predicateAlwaysTrue = unused -> true;
-        modelManager.updateFilteredPersonList(predicateAlwaysTrue);
-        assertEquals(modelManager.getSortedPersonList(),
-                infoHandler.getPersonList());
-    }
-
     @Test
     public void getTotalPeople_sizeIsCorrect_returnsTrue() {
         assertEquals(typicalPersons.size(), infoHandler.getTotalPeople());
@@ -125,6 +109,15 @@ public class InfoHandlerTest {
         assertEquals(numOfQuarantined, infoHandler.getTotalQuarantined());
     }
 
+    @Test
+    public void getStatistics_filteredPersonList_predicateUnchanged() {
+        Predicate<Person> predicate = Person::isQuarantined;
+        modelManager.updateFilteredPersonList(predicate);
+        infoHandler.getStatistics();
+        assertEquals(Optional.of(predicate), modelManager.getPersonPredicate());
+        assertEquals(typicalPersons.size(), infoHandler.getStatisticsSnapshot().getTotalPeople());
+    }
+
     @Test
     public void getInfectedOverPeople_correctRatio_returnsTrue() {
         int numOfInfected = 0;
@@ -169,40 +162,6 @@ public class InfoHandlerTest {
         assertEquals(INVALID_PERCENTAGE_STRING, infoHandler.getRatioAsPercentage(invalidRatio));
     }
 
-    @Test
-    public void getIdHashSetFromPersonsList_success() {
-        List<Person> typicalPersons = TypicalPersons.getTypicalPersons();
-        HashSet<Id> expectedPersonsIds = TypicalPersons.getIdsOfTypicalPersonsAsHashSet();
-        assertEquals(expectedPersonsIds, getIdHashSetFromPersonsList(typicalPersons));
-    }
-
-    @Test
-    public void getLocationIdsFromVisitList_success() {
-        List<Visit> typicalVisits = TypicalVisits.getVisitsForTest();
-        List<Id> expectedLocationIds = TypicalVisits.getLocationsIdsFromVisitsForTest();
-        assertEquals(expectedLocationIds, getLocationIdsFromInfectedVisitList(typicalVisits));
-    }
-
-    @Test
-    public void sortByValues_success() {
-        List<Visit> visits = TypicalVisits.getVisitsForTest();
-        HashMap<Id, Integer> locations = new HashMap<>();
-        for (Visit visit : visits) {
-            Id id = visit.getLocation().getId();
-            if (locations.containsKey(id)) {
-                locations.put(id, locations.get(id) + 1);
-            } else {
-                locations.put(id, 1);
-            }
-        }
-        HashMap<Id, Integer> actualHashMap = sortByValues(locations);
-        HashMap<Id, Integer> expectedHashMap = new LinkedHashMap<>();
-        expectedHashMap.put(new Id("L9101112"), 3);
-        expectedHashMap.put(new Id("L3456"), 1);
-        expectedHashMap.put(new Id("L10111213"), 1);
-        assertEquals(expectedHashMap, actualHashMap);
-    }
-
     @Test
     public void getNumberOfHighRiskLocations_moreThanSixtyPercent_success() {
         assertEquals(40, getNumberOfHighRiskLocations(89, 100));
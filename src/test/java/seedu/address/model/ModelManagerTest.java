@@ -17,6 +17,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.ID_NOT_IN_TYPICAL_PERSON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalVisits.FIFTH_VISIT;
@@ -27,13 +28,18 @@ import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.LocationBook;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonBook;
 import seedu.address.model.person.PersonNameContainsKeywordsPredicate;
 import seedu.address.model.visit.Visit;
@@ -41,6 +47,7 @@ import seedu.address.model.visit.VisitBook;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.LocationBookBuilder;
 import seedu.address.testutil.LocationBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.VisitBookBuilder;
 import seedu.address.testutil.VisitBuilder;
 
@@ -212,7 +219,8 @@ public class ModelManagerTest {
         actualModel.deleteVisitsWithPerson(HOON);
         assertEquals(expectedModel, actualModel);
 
-        actualModel.deleteVisitsWithPerson(IDA);
+        // visits refer to persons by Id, so the person must not share an Id with any visitor
+        actualModel.deleteVisitsWithPerson(new PersonBuilder(IDA).withId(ID_NOT_IN_TYPICAL_PERSON.toString()).build());
         assertEquals(expectedModel, actualModel);
     }
 
@@ -244,28 +252,44 @@ public class ModelManagerTest {
     }
 
     @Test
-    public void updateVisitBookWithEditedLocation_success() {
-        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+    public void setPerson_personRenamed_visitBookUnchangedAndVisitsResorted() {
+        ModelManager actualModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
                 getTypicalVisitBook(), new UserPrefs());
-        Model actualModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+        assertEquals(THIRD_VISIT, actualModel.getSortedVisitList().get(5));
+        assertEquals(FIRST_VISIT, actualModel.getSortedVisitList().get(6));
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Aaron Meier").build();
+        actualModel.setPerson(BENSON, renamedBenson);
+
+        assertEquals(getTypicalVisitBook(), actualModel.getVisitBook());
+        assertEquals(FIRST_VISIT, actualModel.getSortedVisitList().get(5));
+        assertEquals(THIRD_VISIT, actualModel.getSortedVisitList().get(6));
+    }
+
+    @Test
+    public void setPerson_nameUnchanged_visitListNotRefreshed() {
+        ModelManager actualModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
                 getTypicalVisitBook(), new UserPrefs());
+        List<ListChangeListener.Change<? extends Visit>> changes = new ArrayList<>();
+        actualModel.getSortedVisitList().addListener(changes::add);
 
-        Location editedLocation = new LocationBuilder(BENSON_LOCATION).withName("benson location")
-                .build();
-        Visit editedVisit = new VisitBuilder(FIRST_VISIT).withLocation(editedLocation).build();
+        actualModel.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        actualModel.setLocation(BENSON_LOCATION,
+                new LocationBuilder(BENSON_LOCATION).withAddress("1 New Road").build());
 
-        expectedModel.setVisit(FIRST_VISIT, editedVisit);
-        actualModel.updateVisitBookWithEditedLocation(editedLocation);
-        assertEquals(expectedModel, actualModel);
+        assertTrue(changes.isEmpty());
+    }
 
-        Location editedSecondLocation = new LocationBuilder(AMY_LOCATION).withName("amy location").build();
-        Visit editedSecondVisit = new VisitBuilder(SECOND_VISIT).withLocation(editedSecondLocation).build();
-        Visit editedThirdVisit = new VisitBuilder(THIRD_VISIT).withLocation(editedSecondLocation).build();
+    @Test
+    public void setLocation_locationRenamed_visitBookUnchanged() {
+        ModelManager actualModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+                getTypicalVisitBook(), new UserPrefs());
+        Location editedLocation = new LocationBuilder(BENSON_LOCATION).withName("benson location").build();
 
-        expectedModel.setVisit(SECOND_VISIT, editedSecondVisit);
-        expectedModel.setVisit(THIRD_VISIT, editedThirdVisit);
-        actualModel.updateVisitBookWithEditedLocation(editedSecondLocation);
-        assertEquals(expectedModel, actualModel);
+        actualModel.setLocation(BENSON_LOCATION, editedLocation);
+
+        assertEquals(getTypicalVisitBook(), actualModel.getVisitBook());
+        assertTrue(actualModel.getSortedVisitList().contains(FIRST_VISIT));
     }
 
     @Test
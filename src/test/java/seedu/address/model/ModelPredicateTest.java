@@ -6,11 +6,14 @@ import static seedu.address.testutil.TypicalLocations.FIONA_LOCATION;
 import static seedu.address.testutil.TypicalLocations.GEORGE_LOCATION;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
 import static seedu.address.testutil.TypicalLocations.getUnorderedTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalVisits.getLessThanSixtyPercentVisitBook;
 import static seedu.address.testutil.TypicalVisits.getMoreThanSixtyPercentVisitBook;
 import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
 
 public class ModelPredicateTest {
 
@@ -88,4 +92,28 @@ public class ModelPredicateTest {
 
         assertEquals(expectedList, actualList);
     }
+
+    @Test
+    public void getPredicateShowPeopleById_duplicateIds_matchesListedPeopleOnly() {
+        Predicate<Person> predicate = ModelPredicate.getPredicateShowPeopleById(
+                List.of(ALICE.getId(), CARL.getId(), ALICE.getId()));
+        model.updateFilteredPersonList(predicate);
+        assertEquals(List.of(ALICE, CARL), model.getSortedPersonList());
+    }
+
+    @Test
+    public void getPredicateShowPeopleById_noIds_matchesNoPeople() {
+        model.updateFilteredPersonList(ModelPredicate.getPredicateShowPeopleById(List.of()));
+        assertEquals(List.of(), model.getSortedPersonList());
+    }
+
+    @Test
+    public void getPredicateShowLocationsById_ids_matchesListedLocationsOnly() {
+        model.updateFilteredLocationList(ModelPredicate.getPredicateShowLocationsById(
+                List.of(FIONA_LOCATION.getId(), ELLE_LOCATION.getId())));
+        assertEquals(List.of(ELLE_LOCATION, FIONA_LOCATION), model.getSortedLocationList());
+
+        model.updateFilteredLocationList(ModelPredicate.getPredicateShowLocationsById(List.of()));
+        assertEquals(List.of(), model.getSortedLocationList());
+    }
 }
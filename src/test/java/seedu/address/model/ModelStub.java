@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -186,27 +188,22 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void updateVisitBookWithEditedPerson(Person editedPerson) {
-        throw new AssertionError("This method should not be called.");
-    }
-
-    @Override
-    public void updateVisitBookWithEditedLocation(Location editedLocation) {
+    public boolean hasVisit(Visit visit) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public boolean hasVisit(Visit visit) {
+    public void addVisit(Visit visit) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void addVisit(Visit visit) {
+    public void deleteVisit(Visit visit) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void deleteVisit(Visit visit) {
+    public List<Visit> deleteVisitsOnOrBefore(LocalDate date) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -241,6 +238,16 @@ public class ModelStub implements Model {
     }
     //=========== Info Handler ========================================================================================
 
+    @Override
+    public HighRiskLocationTracker getHighRiskLocationTracker() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ContactGraph getContactGraph() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Person getPersonById(Id id) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.visit.VisitBook;
+
+public class StatisticsTest {
+
+    @Test
+    public void of_typicalBooks_countsMatchBooks() {
+        PersonBook personBook = getTypicalAddressBook();
+        LocationBook locationBook = getTypicalLocationBook();
+        VisitBook visitBook = getTypicalVisitBook();
+        long infected = personBook.getPersonList().stream().filter(person -> person.isInfected()).count();
+        long quarantined = personBook.getPersonList().stream().filter(person -> person.isQuarantined()).count();
+
+        Statistics statistics = Statistics.of(personBook, locationBook, visitBook);
+
+        assertEquals(new Statistics(personBook.getPersonList().size(), locationBook.getLocationList().size(),
+                visitBook.getVisitList().size(), (int) infected, (int) quarantined), statistics);
+        assertEquals((double) infected / personBook.getPersonList().size(), statistics.getInfectedOverPeople());
+    }
+
+    @Test
+    public void getInfectedOverPeople_noPeople_returnsInvalidRatio() {
+        Statistics statistics = Statistics.of(new PersonBook(), new LocationBook(), new VisitBook());
+        assertEquals(InfoHandler.INVALID_RATIO, statistics.getInfectedOverPeople());
+        assertEquals(InfoHandler.INVALID_RATIO, statistics.getQuarantinedOverPeople());
+    }
+
+    @Test
+    public void equals() {
+        Statistics statistics = new Statistics(5, 4, 3, 2, 1);
+
+        assertTrue(statistics.equals(statistics));
+        assertTrue(statistics.equals(new Statistics(5, 4, 3, 2, 1)));
+        assertFalse(statistics.equals(null));
+        assertFalse(statistics.equals(5));
+        assertFalse(statistics.equals(new Statistics(5, 4, 3, 2, 0)));
+    }
+}
@@ -24,6 +24,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setPersonBookFilePath(null));
     }
 
+    @Test
+    public void setExposureWindow_nullExposureWindow_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setExposureWindow(null));
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs();
@@ -56,6 +62,11 @@ public class UserPrefsTest {
         userPrefsDifferentVisitFilePath.setVisitBookFilePath(userPrefs.getPersonBookFilePath());
         assertNotEquals(userPrefs, userPrefsDifferentVisitFilePath);
 
+        // different exposure window -> returns false
+        UserPrefs userPrefsDifferentExposureWindow = new UserPrefs();
+        userPrefsDifferentExposureWindow.setExposureWindow(new ExposureWindow(7, 0));
+        assertNotEquals(userPrefs, userPrefsDifferentExposureWindow);
+
         // different types -> returns false
         assertNotEquals(userPrefs, 1);
 
@@ -70,7 +81,8 @@ public class UserPrefsTest {
                 userPrefs.getGuiSettings(),
                 userPrefs.getPersonBookFilePath(),
                 userPrefs.getLocationBookFilePath(),
-                userPrefs.getVisitBookFilePath()
+                userPrefs.getVisitBookFilePath(),
+                userPrefs.getExposureWindow()
         );
 
         assertEquals(userPrefs.hashCode(), hashcode);
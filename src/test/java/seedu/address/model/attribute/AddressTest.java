@@ -2,6 +2,7 @@ package seedu.address.model.attribute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -40,4 +41,12 @@ public class AddressTest {
         Address address = new Address("test");
         assertEquals("test".hashCode(), address.hashCode());
     }
+
+    @Test
+    public void of_equalAddresses_returnsSameInstance() {
+        Address address = Address.of("Blk 30 Geylang Street 29");
+        assertSame(address, Address.of(new String("Blk 30 Geylang Street 29")));
+        assertEquals(new Address("Blk 30 Geylang Street 29"), address);
+        assertThrows(IllegalArgumentException.class, () -> Address.of(" "));
+    }
 }
@@ -0,0 +1,45 @@
+package seedu.address.model.attribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IdDictionaryTest {
+
+    private final IdDictionary idDictionary = new IdDictionary();
+
+    @Test
+    public void getOrAddOrdinal_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> idDictionary.getOrAddOrdinal(null));
+    }
+
+    @Test
+    public void getOrAddOrdinal_newIds_assignsDenseOrdinals() {
+        assertEquals(0, idDictionary.getOrAddOrdinal(new Id("S1234")));
+        assertEquals(1, idDictionary.getOrAddOrdinal(new Id("S2345")));
+        assertEquals(0, idDictionary.getOrAddOrdinal(new Id("S1234")));
+        assertEquals(2, idDictionary.size());
+        assertEquals(new Id("S2345"), idDictionary.getId(1));
+    }
+
+    @Test
+    public void getOrdinal_unknownId_returnsNoOrdinal() {
+        idDictionary.getOrAddOrdinal(new Id("S1234"));
+        assertEquals(IdDictionary.NO_ORDINAL, idDictionary.getOrdinal(new Id("S2345")));
+        assertEquals(0, idDictionary.getOrdinal(new Id("S1234")));
+    }
+
+    @Test
+    public void clear_assignsOrdinalsFromZeroAgain() {
+        idDictionary.getOrAddOrdinal(new Id("S1234"));
+        idDictionary.clear();
+        assertEquals(IdDictionary.NO_ORDINAL, idDictionary.getOrdinal(new Id("S1234")));
+        assertEquals(0, idDictionary.getOrAddOrdinal(new Id("S2345")));
+    }
+
+    @Test
+    public void getId_invalidOrdinal_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> idDictionary.getId(0));
+    }
+}
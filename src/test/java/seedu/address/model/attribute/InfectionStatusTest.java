@@ -2,6 +2,7 @@ package seedu.address.model.attribute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -88,6 +89,14 @@ public class InfectionStatusTest {
         );
         assertEquals(hashCode, infectionStatus.hashCode());
     }
+
+    @Test
+    public void of_equalStatuses_returnsSameInstanceWithSharedDate() {
+        InfectionStatus infectionStatus = InfectionStatus.of("2020-02-02");
+        assertSame(infectionStatus, InfectionStatus.of("2020-02-02"));
+        assertSame(infectionStatus.getInfectionDate().get(),
+                new InfectionStatus("2020-02-02").getInfectionDate().get());
+    }
 }
 
 
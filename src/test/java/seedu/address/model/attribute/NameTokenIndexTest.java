@@ -0,0 +1,64 @@
+package seedu.address.model.attribute;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class NameTokenIndexTest {
+
+    private static final Id ALICE_ID = new Id("S1111");
+    private static final Id ALINA_ID = new Id("S2222");
+    private static final Id BOB_ID = new Id("S3333");
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void matchesAnyKeyword_mixedCaseWords_matchesWholeWords() {
+        addTypicalNames();
+        assertTrue(index.matchesAnyKeyword(ALICE_ID, List.of("ALICE")));
+        assertTrue(index.matchesAnyKeyword(BOB_ID, List.of("bob", "TAN")));
+        assertFalse(index.matchesAnyKeyword(ALICE_ID, List.of("ali", "Lim")));
+    }
+
+    @Test
+    public void matchesAnyKeyword_wildcard_matchesByPrefix() {
+        addTypicalNames();
+        assertTrue(index.matchesAnyKeyword(ALINA_ID, List.of("bob", "LI*")));
+        assertTrue(index.matchesAnyKeyword(ALICE_ID, List.of("ali*")));
+        assertFalse(index.matchesAnyKeyword(BOB_ID, List.of("ali*", "*", "ta")));
+    }
+
+    @Test
+    public void matchesAnyKeyword_idNotIndexed_returnsFalse() {
+        addTypicalNames();
+        assertFalse(index.matchesAnyKeyword(new Id("S4444"), List.of("tan")));
+    }
+
+    @Test
+    public void add_sameId_nameReplaced() {
+        addTypicalNames();
+        index.add(new Name("Alice Chan"), ALICE_ID);
+        assertFalse(index.matchesAnyKeyword(ALICE_ID, List.of("tan")));
+        assertTrue(index.matchesAnyKeyword(ALICE_ID, List.of("chan")));
+    }
+
+    @Test
+    public void remove_nameRemoved_wordsNoLongerMatch() {
+        addTypicalNames();
+        index.remove(BOB_ID);
+        assertFalse(index.matchesAnyKeyword(BOB_ID, List.of("tan")));
+        assertTrue(index.matchesAnyKeyword(ALICE_ID, List.of("tan")));
+
+        index.clear();
+        assertFalse(index.matchesAnyKeyword(ALICE_ID, List.of("a*")));
+    }
+
+    private void addTypicalNames() {
+        index.add(new Name("Alice Tan"), ALICE_ID);
+        index.add(new Name("Alina Lim"), ALINA_ID);
+        index.add(new Name("Bob Tan"), BOB_ID);
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.attribute.Id;
 import seedu.address.model.location.exceptions.DuplicateLocationException;
 import seedu.address.testutil.LocationBuilder;
 
@@ -98,5 +99,20 @@ public class LocationBookTest {
         public ObservableList<Location> getLocationList() {
             return locations;
         }
+
+        @Override
+        public boolean hasLocationId(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Location getLocationById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasNameMatchingKeywords(Id id, List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
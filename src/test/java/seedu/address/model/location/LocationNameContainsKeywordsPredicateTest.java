@@ -59,6 +59,10 @@ public class LocationNameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new LocationNameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new LocationBuilder().withName("Alice Bob").build()));
+
+        // Prefix keyword
+        predicate = new LocationNameContainsKeywordsPredicate(Arrays.asList("Carol", "bO*"));
+        assertTrue(predicate.test(new LocationBuilder().withName("Alice Bob").build()));
     }
 
     @Test
@@ -75,5 +79,23 @@ public class LocationNameContainsKeywordsPredicateTest {
         // Keywords match address, but does not match name
         predicate = new LocationNameContainsKeywordsPredicate(Arrays.asList("Main", "Street"));
         assertFalse(predicate.test(new LocationBuilder().withName("Alice").withAddress("Main Street").build()));
+
+        // Prefix keyword without a prefix, and a keyword that only prefixes a word
+        predicate = new LocationNameContainsKeywordsPredicate(Arrays.asList("*", "Ali"));
+        assertFalse(predicate.test(new LocationBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_withNameIndexOf_matchesCurrentNames() {
+        LocationBook locationBook = new LocationBook();
+        Location location = new LocationBuilder().withName("Alice Bob").build();
+        locationBook.addLocation(location);
+        LocationNameContainsKeywordsPredicate predicate =
+                new LocationNameContainsKeywordsPredicate(Arrays.asList("bO*")).withNameIndexOf(locationBook);
+        assertTrue(predicate.test(location));
+
+        Location renamedLocation = new LocationBuilder(location).withName("Carol Dan").build();
+        locationBook.setLocation(location, renamedLocation);
+        assertFalse(predicate.test(renamedLocation));
     }
 }
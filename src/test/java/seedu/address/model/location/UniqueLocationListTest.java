@@ -86,6 +86,22 @@ public class UniqueLocationListTest {
         assertThrows(LocationNotFoundException.class, () -> uniqueLocationList.getLocationById(ALICE_LOCATION.getId()));
     }
 
+    @Test
+    public void getLocationById_afterSetLocation_returnsEditedLocation() {
+        uniqueLocationList.add(ALICE_LOCATION);
+        Location editedLocation = new LocationBuilder(ALICE_LOCATION).withName(VALID_NAME_BOB).build();
+        uniqueLocationList.setLocation(ALICE_LOCATION, editedLocation);
+        assertEquals(editedLocation, uniqueLocationList.getLocationById(ALICE_LOCATION.getId()));
+    }
+
+    @Test
+    public void getLocationById_afterRemove_throwsLocationNotFoundException() {
+        uniqueLocationList.add(ALICE_LOCATION);
+        uniqueLocationList.remove(ALICE_LOCATION);
+        assertFalse(uniqueLocationList.containsLocationId(ALICE_LOCATION.getId()));
+        assertThrows(LocationNotFoundException.class, () -> uniqueLocationList.getLocationById(ALICE_LOCATION.getId()));
+    }
+
     @Test
     public void add_nullLocation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLocationList.add(null));
@@ -233,6 +249,20 @@ public class UniqueLocationListTest {
                 uniqueLocationList.setLocations(listWithUnidentifiableLocations));
     }
 
+    @Test
+    public void hasNameMatchingKeywords_afterEdit_indexUpdated() {
+        uniqueLocationList.add(ALICE_LOCATION);
+        uniqueLocationList.add(BOB_LOCATION);
+        assertTrue(uniqueLocationList.hasNameMatchingKeywords(ALICE_LOCATION.getId(), List.of("pAUL*")));
+        assertFalse(uniqueLocationList.hasNameMatchingKeywords(BOB_LOCATION.getId(), List.of("pAUL*")));
+
+        Location renamedLocation = new LocationBuilder(ALICE_LOCATION).withName("Changi Airport").build();
+        uniqueLocationList.setLocation(ALICE_LOCATION, renamedLocation);
+        assertFalse(uniqueLocationList.hasNameMatchingKeywords(ALICE_LOCATION.getId(), List.of("paul*")));
+        assertTrue(uniqueLocationList.hasNameMatchingKeywords(ALICE_LOCATION.getId(), List.of("chan*")));
+        assertTrue(uniqueLocationList.hasNameMatchingKeywords(ALICE_LOCATION.getId(), List.of("AIRPORT")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -12,11 +12,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.attribute.Id;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -101,6 +103,31 @@ public class PersonBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public boolean hasPersonId(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasNameMatchingKeywords(Id id, List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Id> getInfectedPersonIds() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Id> getQuarantinedPersonIds() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -18,6 +18,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +55,35 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameAndEmailOnly_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withId(VALID_ID_BOB).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personWithSameNameOnly_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertFalse(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedWithDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void containsSameIdPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.containsPersonId(null));
@@ -97,6 +127,30 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonById(ALICE.getId()));
     }
 
+    @Test
+    public void getPersonById_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterRemove_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.containsPersonId(ALICE.getId()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterSetPersons_usesReplacementList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.containsPersonId(ALICE.getId()));
+        assertEquals(BOB, uniquePersonList.getPersonById(BOB.getId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -240,6 +294,51 @@ public class UniquePersonListTest {
                 uniquePersonList.setPersons(listWithUnidentifiablePersons));
     }
 
+    @Test
+    public void hasNameMatchingKeywords_mixedCaseKeywords_matchesWholeWordsAndPrefixes() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertTrue(uniquePersonList.hasNameMatchingKeywords(ALICE.getId(), List.of("pAULINE")));
+        assertTrue(uniquePersonList.hasNameMatchingKeywords(BOB.getId(), List.of("alice", "BOB", "Carl")));
+        assertFalse(uniquePersonList.hasNameMatchingKeywords(ALICE.getId(), List.of("Alic")));
+        assertTrue(uniquePersonList.hasNameMatchingKeywords(ALICE.getId(), List.of("Alic*")));
+        assertFalse(uniquePersonList.hasNameMatchingKeywords(BOB.getId(), List.of("Alic*", "*")));
+    }
+
+    @Test
+    public void hasNameMatchingKeywords_afterEditAndRemove_indexUpdated() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertFalse(uniquePersonList.hasNameMatchingKeywords(ALICE.getId(), List.of("Pauline")));
+        assertTrue(uniquePersonList.hasNameMatchingKeywords(ALICE.getId(), List.of("tan")));
+
+        uniquePersonList.remove(renamedAlice);
+        assertFalse(uniquePersonList.hasNameMatchingKeywords(ALICE.getId(), List.of("Alice")));
+        assertTrue(uniquePersonList.hasNameMatchingKeywords(BOB.getId(), List.of("bob")));
+    }
+
+    @Test
+    public void getInfectedAndQuarantinedPersonIds_afterChanges_partitionsUpdated() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.getInfectedPersonIds());
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.getQuarantinedPersonIds());
+
+        Person infectedAlice = new PersonBuilder(ALICE).withInfectionStatus("2020-02-02")
+                .withQuarantineStatus("false").build();
+        uniquePersonList.setPerson(ALICE, infectedAlice);
+        assertEquals(Set.of(ALICE.getId(), BOB.getId()), uniquePersonList.getInfectedPersonIds());
+        assertEquals(Set.of(), uniquePersonList.getQuarantinedPersonIds());
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.getInfectedPersonIds());
+    }
+
+    @Test
+    public void getInfectedPersonIds_modifySet_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> uniquePersonList.getInfectedPersonIds().clear());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,71 @@
+package seedu.address.model.visit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LiveSlotsTest {
+
+    private final LiveSlots liveSlots = new LiveSlots();
+
+    @Test
+    public void add_beyondInitialCapacity_slotsMapToThemselves() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, liveSlots.add());
+        }
+        assertEquals(100, liveSlots.size());
+        assertEquals(57, liveSlots.slotAt(57));
+        assertEquals(57, liveSlots.indexOf(57));
+    }
+
+    @Test
+    public void remove_someSlots_indexesSkipDeadSlots() {
+        List<Integer> expectedLiveSlots = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            liveSlots.add();
+            expectedLiveSlots.add(i);
+        }
+        for (int slot = 0; slot < 100; slot += 3) {
+            liveSlots.remove(slot);
+            expectedLiveSlots.remove(Integer.valueOf(slot));
+        }
+        // Slots added after some slots are dead are also counted.
+        for (int i = 100; i < 150; i++) {
+            liveSlots.add();
+            expectedLiveSlots.add(i);
+        }
+
+        assertEquals(expectedLiveSlots.size(), liveSlots.size());
+        assertEquals(34, liveSlots.getNumberOfDeadSlots());
+        for (int index = 0; index < expectedLiveSlots.size(); index++) {
+            int slot = expectedLiveSlots.get(index);
+            assertEquals(slot, liveSlots.slotAt(index));
+            assertEquals(index, liveSlots.indexOf(slot));
+            assertTrue(liveSlots.isLive(slot));
+        }
+        assertFalse(liveSlots.isLive(3));
+        assertEquals(4, liveSlots.nextLiveSlot(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> liveSlots.slotAt(expectedLiveSlots.size()));
+    }
+
+    @Test
+    public void clear_withDeadSlots_allSlotsLive() {
+        for (int i = 0; i < 10; i++) {
+            liveSlots.add();
+        }
+        liveSlots.remove(4);
+
+        liveSlots.clear(5);
+
+        assertEquals(5, liveSlots.size());
+        assertEquals(0, liveSlots.getNumberOfDeadSlots());
+        assertEquals(4, liveSlots.slotAt(4));
+        assertTrue(liveSlots.getDeadSlots().isEmpty());
+    }
+}
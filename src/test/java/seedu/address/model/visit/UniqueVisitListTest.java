@@ -3,20 +3,32 @@ package seedu.address.model.visit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.AMY_LOCATION;
 import static seedu.address.testutil.TypicalLocations.BOB_LOCATION;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalVisits.FIRST_VISIT;
 import static seedu.address.testutil.TypicalVisits.SECOND_VISIT;
+import static seedu.address.testutil.TypicalVisits.THIRD_VISIT;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisits;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.attribute.Id;
+import seedu.address.model.person.Person;
 import seedu.address.model.visit.exceptions.DuplicateVisitException;
 import seedu.address.model.visit.exceptions.VisitNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.VisitBuilder;
 
 public class UniqueVisitListTest {
@@ -46,6 +58,29 @@ public class UniqueVisitListTest {
         assertFalse(uniqueVisitList.contains(editedVisit));
     }
 
+    @Test
+    public void contains_visitWithSameIdsAndDateButEditedPerson_returnsTrue() {
+        uniqueVisitList.add(FIRST_VISIT);
+        Person editedPerson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        Visit editedVisit = new VisitBuilder(FIRST_VISIT).withPerson(editedPerson).build();
+        assertTrue(uniqueVisitList.contains(editedVisit));
+    }
+
+    @Test
+    public void contains_visitRemovedFromList_returnsFalse() {
+        uniqueVisitList.add(FIRST_VISIT);
+        uniqueVisitList.remove(FIRST_VISIT);
+        assertFalse(uniqueVisitList.contains(FIRST_VISIT));
+    }
+
+    @Test
+    public void contains_visitReplacedInList_returnsFalse() {
+        uniqueVisitList.add(FIRST_VISIT);
+        uniqueVisitList.setVisit(FIRST_VISIT, SECOND_VISIT);
+        assertFalse(uniqueVisitList.contains(FIRST_VISIT));
+        assertTrue(uniqueVisitList.contains(SECOND_VISIT));
+    }
+
     @Test
     public void add_nullVisit_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueVisitList.add(null));
@@ -154,6 +189,139 @@ public class UniqueVisitListTest {
                 uniqueVisitList.setVisits(listWithDuplicateVisits));
     }
 
+    @Test
+    public void removeVisitsWithLocation_locationWithVisits_removesOnlyItsVisitsInOneChange() {
+        uniqueVisitList.setVisits(getTypicalVisits());
+        List<Visit> expectedRemaining = new ArrayList<>(getTypicalVisits());
+        expectedRemaining.removeAll(List.of(SECOND_VISIT, THIRD_VISIT));
+        int[] numberOfChanges = {0};
+        uniqueVisitList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Visit>) change -> numberOfChanges[0]++);
+
+        uniqueVisitList.removeVisitsWithLocation(AMY_LOCATION);
+
+        assertEquals(expectedRemaining, uniqueVisitList.asUnmodifiableObservableList());
+        assertEquals(1, numberOfChanges[0]);
+        assertEquals(Collections.emptyList(), uniqueVisitList.getVisitsByLocationId(AMY_LOCATION.getId()));
+        assertFalse(uniqueVisitList.contains(SECOND_VISIT));
+    }
+
+    @Test
+    public void removeVisitsWithPerson_personWithoutVisits_listUnchanged() {
+        uniqueVisitList.setVisits(getTypicalVisits());
+        int[] numberOfChanges = {0};
+        uniqueVisitList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Visit>) change -> numberOfChanges[0]++);
+
+        uniqueVisitList.removeVisitsWithPerson(HOON);
+
+        assertEquals(getTypicalVisits(), uniqueVisitList.asUnmodifiableObservableList());
+        assertEquals(0, numberOfChanges[0]);
+    }
+
+    @Test
+    public void remove_visitInMiddle_remainingVisitsStillFound() {
+        uniqueVisitList.setVisits(getTypicalVisits());
+
+        uniqueVisitList.remove(SECOND_VISIT);
+
+        List<Visit> expectedRemaining = new ArrayList<>(getTypicalVisits());
+        expectedRemaining.remove(SECOND_VISIT);
+        assertEquals(expectedRemaining, uniqueVisitList.asUnmodifiableObservableList());
+        assertEquals(List.of(THIRD_VISIT), uniqueVisitList.getVisitsByLocationId(AMY_LOCATION.getId()));
+        for (Visit visit : expectedRemaining) {
+            assertTrue(uniqueVisitList.contains(visit));
+        }
+    }
+
+    @Test
+    public void getVisitsByLocationIdOnDate_typicalVisits_returnsOnlyVisitsOnThatDay() {
+        uniqueVisitList.setVisits(getTypicalVisits());
+        Visit laterVisit = new VisitBuilder(SECOND_VISIT).withDate("2020-09-13").build();
+        uniqueVisitList.add(laterVisit);
+
+        assertEquals(List.of(SECOND_VISIT, THIRD_VISIT),
+                uniqueVisitList.getVisitsByLocationIdOnDate(AMY_LOCATION.getId(), SECOND_VISIT.getDate()));
+        assertEquals(List.of(laterVisit),
+                uniqueVisitList.getVisitsByLocationIdOnDate(AMY_LOCATION.getId(), laterVisit.getDate()));
+
+        uniqueVisitList.remove(SECOND_VISIT);
+        assertEquals(List.of(THIRD_VISIT),
+                uniqueVisitList.getVisitsByLocationIdOnDate(AMY_LOCATION.getId(), SECOND_VISIT.getDate()));
+        assertEquals(Collections.emptyList(),
+                uniqueVisitList.getVisitsByLocationIdOnDate(BOB_LOCATION.getId(), laterVisit.getDate()));
+    }
+
+    @Test
+    public void getVisitsByPersonIdBetween_typicalVisits_returnsOnlyVisitsInRange() {
+        uniqueVisitList.setVisits(getTypicalVisits());
+        Visit laterVisit = new VisitBuilder(SECOND_VISIT).withDate("2020-09-20").build();
+        uniqueVisitList.add(laterVisit);
+        Id personId = SECOND_VISIT.getPersonId();
+
+        assertEquals(List.of(SECOND_VISIT, laterVisit), uniqueVisitList.getVisitsByPersonIdBetween(personId,
+                SECOND_VISIT.getDate(), laterVisit.getDate()));
+        assertEquals(List.of(SECOND_VISIT), uniqueVisitList.getVisitsByPersonIdBetween(personId,
+                SECOND_VISIT.getDate(), laterVisit.getDate().minusDays(1)));
+        assertEquals(List.of(laterVisit), uniqueVisitList.getVisitsByPersonIdBetween(personId,
+                SECOND_VISIT.getDate().plusDays(1), laterVisit.getDate().plusDays(1)));
+        assertEquals(Collections.emptyList(), uniqueVisitList.getVisitsByPersonIdBetween(new Id("S0000"),
+                SECOND_VISIT.getDate(), laterVisit.getDate()));
+    }
+
+    @Test
+    public void removeAndSetVisit_manyVisits_listAndIndexesMatchExpected() {
+        List<Visit> expectedVisits = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            expectedVisits.add(new Visit(new Id("P" + (10000 + i % 7)), new Id("L" + (10000 + i % 5)),
+                    LocalDate.of(2020, 9, 1 + i % 3)));
+        }
+        uniqueVisitList.setVisits(expectedVisits);
+        List<Visit> observedVisits = new ArrayList<>(expectedVisits);
+        uniqueVisitList.asUnmodifiableObservableList().addListener((ListChangeListener<Visit>) change -> {
+            while (change.next()) {
+                observedVisits.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                observedVisits.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        // Leaves a few dead slots behind, then edits visits after them.
+        for (int i = 0; i < 6; i++) {
+            uniqueVisitList.remove(expectedVisits.remove(i * 5));
+        }
+        Visit editedVisit = new Visit(new Id("P20000"), new Id("L10000"), LocalDate.of(2020, 9, 2));
+        uniqueVisitList.setVisit(expectedVisits.get(20), editedVisit);
+        expectedVisits.set(20, editedVisit);
+        assertVisitsMatch(expectedVisits, observedVisits);
+
+        // Removes enough visits for the dead slots to be compacted.
+        Id removedPersonId = new Id("P10003");
+        uniqueVisitList.removeVisitsWithPerson(new PersonBuilder().withId(removedPersonId.toString()).build());
+        expectedVisits.removeIf(visit -> visit.getPersonId().equals(removedPersonId));
+        uniqueVisitList.removeVisitsOnOrBefore(LocalDate.of(2020, 9, 2));
+        expectedVisits.removeIf(visit -> !visit.getDate().isAfter(LocalDate.of(2020, 9, 2)));
+        assertVisitsMatch(expectedVisits, observedVisits);
+    }
+
+    private void assertVisitsMatch(List<Visit> expectedVisits, List<Visit> observedVisits) {
+        assertEquals(expectedVisits, uniqueVisitList.asUnmodifiableObservableList());
+        assertEquals(expectedVisits, observedVisits);
+        for (Visit visit : expectedVisits) {
+            assertTrue(uniqueVisitList.contains(visit));
+            List<Visit> expectedByPerson = new ArrayList<>(expectedVisits);
+            expectedByPerson.removeIf(other -> !other.getPersonId().equals(visit.getPersonId()));
+            assertEquals(expectedByPerson, uniqueVisitList.getVisitsByPersonId(visit.getPersonId()));
+            List<Visit> expectedByLocation = new ArrayList<>(expectedVisits);
+            expectedByLocation.removeIf(other -> !other.getLocationId().equals(visit.getLocationId()));
+            assertEquals(expectedByLocation, uniqueVisitList.getVisitsByLocationId(visit.getLocationId()));
+            List<Visit> expectedOnDay = new ArrayList<>(expectedVisits);
+            expectedOnDay.removeIf(other -> !other.getLocationId().equals(visit.getLocationId())
+                    || !other.getDate().equals(visit.getDate()));
+            assertEquals(expectedOnDay,
+                    uniqueVisitList.getVisitsByLocationIdOnDate(visit.getLocationId(), visit.getDate()));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
@@ -0,0 +1,101 @@
+package seedu.address.model.visit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class VisitBloomFilterTest {
+
+    private final VisitBloomFilter filter = new VisitBloomFilter();
+
+    @Test
+    public void key_differentVisits_differentKeys() {
+        long key = VisitBloomFilter.key(1, 2, 18500);
+        assertFalse(key == VisitBloomFilter.key(2, 1, 18500));
+        assertFalse(key == VisitBloomFilter.key(1, 2, 18501));
+        assertFalse(key == VisitBloomFilter.key(1, 3, 18500));
+    }
+
+    @Test
+    public void mightContain_addedKeys_returnsTrue() {
+        filter.clear(1000);
+        for (int i = 0; i < 1000; i++) {
+            filter.add(VisitBloomFilter.key(i, i % 10, 18500 + i % 7));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain(VisitBloomFilter.key(i, i % 10, 18500 + i % 7)));
+        }
+        assertFalse(filter.isFull());
+    }
+
+    @Test
+    public void mightContain_absentKeys_mostlyReturnsFalse() {
+        filter.clear(10000);
+        for (int i = 0; i < 10000; i++) {
+            filter.add(VisitBloomFilter.key(i, 0, 18500));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain(VisitBloomFilter.key(i, 0, 18501))) {
+                falsePositives++;
+                filter.recordFalsePositive();
+            }
+        }
+        assertTrue(falsePositives < 100);
+        assertEquals(falsePositives / 10000.0, filter.getFalsePositiveRate(), 1e-9);
+    }
+
+    @Test
+    public void isFull_moreKeysThanSizedFor_returnsTrue() {
+        filter.clear(0);
+        int i = 0;
+        while (!filter.isFull()) {
+            filter.add(VisitBloomFilter.key(i++, 0, 0));
+        }
+        filter.clear(i);
+        assertFalse(filter.isFull());
+    }
+
+    @Test
+    public void needsRefill_mostKeysRemoved_returnsTrue() {
+        filter.clear(100);
+        for (int i = 0; i < 100; i++) {
+            filter.add(VisitBloomFilter.key(i, 0, 0));
+        }
+        for (int i = 0; i < 50; i++) {
+            filter.recordRemoval();
+        }
+        assertFalse(filter.needsRefill());
+
+        filter.recordRemoval();
+        assertTrue(filter.needsRefill());
+
+        filter.clear(49);
+        assertFalse(filter.needsRefill());
+    }
+
+    @Test
+    public void needsRefill_falsePositiveRateDriftedWithStaleKeys_returnsTrue() {
+        filter.clear(100);
+        for (int i = 0; i < 100; i++) {
+            filter.add(VisitBloomFilter.key(i, 0, 0));
+        }
+        for (int i = 0; i < 1980; i++) {
+            filter.mightContain(VisitBloomFilter.key(i, 0, 1));
+        }
+        for (int i = 0; i < 40; i++) {
+            filter.recordFalsePositive();
+        }
+        assertFalse(filter.needsRefill());
+
+        filter.recordRemoval();
+        assertTrue(filter.needsRefill());
+    }
+
+    @Test
+    public void getFalsePositiveRate_noLookups_returnsZero() {
+        assertEquals(0, filter.getFalsePositiveRate());
+    }
+}
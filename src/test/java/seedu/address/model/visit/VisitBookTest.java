@@ -2,6 +2,7 @@ package seedu.address.model.visit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
@@ -10,19 +11,33 @@ import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
 import static seedu.address.testutil.TypicalLocations.HOON_LOCATION;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ID_NOT_IN_TYPICAL_PERSON;
+import static seedu.address.testutil.TypicalVisits.EIGHTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.ELEVENTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.FIFTH_VISIT;
 import static seedu.address.testutil.TypicalVisits.FIRST_VISIT;
+import static seedu.address.testutil.TypicalVisits.NINTH_VISIT;
 import static seedu.address.testutil.TypicalVisits.SECOND_VISIT;
+import static seedu.address.testutil.TypicalVisits.SEVENTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.SIXTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.TENTH_VISIT;
 import static seedu.address.testutil.TypicalVisits.THIRD_VISIT;
-import static seedu.address.testutil.TypicalVisits.getNonUniqueLocationsVisitBook;
-import static seedu.address.testutil.TypicalVisits.getNonUniquePersonsVisitBook;
 import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.attribute.IdDictionary;
+import seedu.address.model.attribute.ReadOnlyIdDictionary;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.LocationBuilder;
@@ -50,20 +65,66 @@ public class VisitBookTest {
     }
 
     @Test
-    public void updateWithEditedPerson_success() {
-        VisitBook expectedVisitBook = getNonUniquePersonsVisitBook();
-        VisitBook actualVisitBook = getNonUniquePersonsVisitBook();
+    public void setVisits_millionVisits_validatedWithinTimeBudget() {
+        int numberOfPersons = 1000;
+        int numberOfDays = 1000;
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < numberOfPersons; i++) {
+            persons.add(new PersonBuilder().withId(String.format("S%07d", i)).build());
+        }
+        LocalDate firstDate = LocalDate.of(2018, 1, 1);
+        List<Visit> visits = new ArrayList<>();
+        for (int day = 0; day < numberOfDays; day++) {
+            LocalDate date = firstDate.plusDays(day);
+            for (Person person : persons) {
+                visits.add(new Visit(person, ALICE_LOCATION, date));
+            }
+        }
 
-        Visit secondVisit = expectedVisitBook.getVisitList().get(1);
-        Person editedPerson = new PersonBuilder(secondVisit.getPerson())
-                .withName(CARL.getName().toString()).build();
-        expectedVisitBook.setVisit(secondVisit,
-                new Visit(editedPerson, secondVisit.getLocation(), secondVisit.getDate()));
+        assertTimeout(Duration.ofSeconds(10), () -> visitBook.setVisits(visits));
+        assertEquals(numberOfPersons * numberOfDays, visitBook.getVisitList().size());
+    }
 
-        actualVisitBook.updateWithEditedPerson(editedPerson);
+    @Test
+    public void hasVisit_manyVisitsNotInVisitBook_mostRuledOutByFilter() {
+        List<Visit> visits = new ArrayList<>();
+        LocalDate firstDate = LocalDate.of(2020, 1, 1);
+        for (int day = 0; day < 1000; day++) {
+            visits.add(new Visit(ALICE, ALICE_LOCATION, firstDate.plusDays(day)));
+            visitBook.addVisit(new Visit(BENSON, BENSON_LOCATION, firstDate.plusDays(day)));
+        }
+        for (Visit visit : visits) {
+            assertFalse(visitBook.hasVisit(visit));
+            visitBook.addVisit(visit);
+            assertTrue(visitBook.hasVisit(visit));
+        }
+        for (int day = 1000; day < 2000; day++) {
+            assertFalse(visitBook.hasVisit(new Visit(ALICE, BENSON_LOCATION, firstDate.plusDays(day))));
+        }
 
-        assertEquals(expectedVisitBook, actualVisitBook);
+        assertTrue(visitBook.getFilterFalsePositiveRate() < 0.01);
     }
+
+    @Test
+    public void hasVisit_visitRemoved_returnsFalse() {
+        visitBook.setVisits(getTypicalVisitBook().getVisitList());
+        visitBook.removeVisit(FIRST_VISIT);
+        assertFalse(visitBook.hasVisit(FIRST_VISIT));
+        assertTrue(visitBook.hasVisit(SECOND_VISIT));
+    }
+
+    @Test
+    public void hasVisit_personAndLocationEdited_returnsTrue() {
+        visitBook.addVisit(FIRST_VISIT);
+        Person editedPerson = new PersonBuilder(BENSON).withName(CARL.getName().toString()).build();
+        Location editedLocation = new LocationBuilder(BENSON_LOCATION)
+                .withName(ALICE_LOCATION.getName().toString()).build();
+        Visit visitWithEditedDetails = new Visit(editedPerson, editedLocation, FIRST_VISIT.getDate());
+
+        assertTrue(visitBook.hasVisit(visitWithEditedDetails));
+        assertEquals(List.of(FIRST_VISIT), visitBook.getVisitsByPersonId(editedPerson.getId()));
+    }
+
     @Test
     public void deleteVisitsWithLocation_visitsContainDeletedLocation_success() {
         VisitBook expectedVisitBook = getTypicalVisitBook();
@@ -91,25 +152,6 @@ public class VisitBookTest {
         assertEquals(expectedVisitBook, actualVisitBook);
     }
 
-    @Test
-    public void updateWithEditedLocation_success() {
-        VisitBook expectedVisitBook = getNonUniqueLocationsVisitBook();
-        VisitBook actualVisitBook = getNonUniqueLocationsVisitBook();
-
-        Visit secondVisit = expectedVisitBook.getVisitList().get(1);
-        Visit thirdVisit = expectedVisitBook.getVisitList().get(2);
-        Location editedLocation = new LocationBuilder(secondVisit.getLocation())
-                .withName(ALICE_LOCATION.getName().toString()).build();
-        expectedVisitBook.setVisit(secondVisit,
-                new Visit(secondVisit.getPerson(), editedLocation, secondVisit.getDate()));
-        expectedVisitBook.setVisit(thirdVisit,
-                new Visit(thirdVisit.getPerson(), editedLocation, thirdVisit.getDate()));
-
-        actualVisitBook.updateWithEditedLocation(editedLocation);
-
-        assertEquals(expectedVisitBook, actualVisitBook);
-    }
-
     @Test
     public void hasVisit_nullLocation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> visitBook.hasVisit(null));
@@ -150,6 +192,98 @@ public class VisitBookTest {
         assertEquals(expectedVisitBook, actualVisitBook);
     }
 
+    @Test
+    public void getVisitsByPersonId_afterModifications_returnsPersonVisitsOnly() {
+        VisitBook typicalVisitBook = getTypicalVisitBook();
+        List<Visit> expectedVisits = new ArrayList<>();
+        for (Visit visit : typicalVisitBook.getVisitList()) {
+            if (visit.getPersonId().equals(ALICE.getId())) {
+                expectedVisits.add(visit);
+            }
+        }
+        assertEquals(expectedVisits, typicalVisitBook.getVisitsByPersonId(ALICE.getId()));
+
+        typicalVisitBook.deleteVisitsWithPerson(ALICE);
+        assertEquals(Collections.emptyList(), typicalVisitBook.getVisitsByPersonId(ALICE.getId()));
+    }
+
+    @Test
+    public void getVisitsByLocationId_afterModifications_returnsLocationVisitsOnly() {
+        Visit sample = new VisitBuilder().withPerson(ALICE).withLocation(ALICE_LOCATION).withDate("2020-09-12").build();
+        Visit otherLocationSample = new VisitBuilder(sample).withLocation(BENSON_LOCATION).build();
+        visitBook.addVisit(sample);
+        visitBook.addVisit(otherLocationSample);
+        assertEquals(List.of(sample), visitBook.getVisitsByLocationId(ALICE_LOCATION.getId()));
+
+        Visit movedSample = new VisitBuilder(sample).withLocation(HOON_LOCATION).build();
+        visitBook.setVisit(sample, movedSample);
+        assertEquals(Collections.emptyList(), visitBook.getVisitsByLocationId(ALICE_LOCATION.getId()));
+        assertEquals(List.of(movedSample), visitBook.getVisitsByLocationId(HOON_LOCATION.getId()));
+
+        visitBook.removeVisit(otherLocationSample);
+        assertEquals(Collections.emptyList(), visitBook.getVisitsByLocationId(BENSON_LOCATION.getId()));
+    }
+
+    @Test
+    public void getVisitsOnOrBefore_typicalVisitBook_returnsVisitsInDateOrder() {
+        VisitBook typicalVisitBook = getTypicalVisitBook();
+        List<Visit> visits = typicalVisitBook.getVisitsOnOrBefore(LocalDate.parse("2020-09-13"));
+
+        assertEquals(8, visits.size());
+        assertTrue(visits.containsAll(List.of(FIRST_VISIT, SECOND_VISIT, THIRD_VISIT, FIFTH_VISIT)));
+        assertEquals(List.of(LocalDate.parse("2020-09-12"), LocalDate.parse("2020-09-13")),
+                visits.stream().map(Visit::getDate).distinct().collect(Collectors.toList()));
+        assertEquals(Collections.emptyList(), typicalVisitBook.getVisitsOnOrBefore(LocalDate.parse("2020-09-11")));
+    }
+
+    @Test
+    public void getVisitsBetween_typicalVisitBook_returnsVisitsInRange() {
+        VisitBook typicalVisitBook = getTypicalVisitBook();
+        typicalVisitBook.addVisit(TENTH_VISIT);
+        typicalVisitBook.addVisit(ELEVENTH_VISIT);
+
+        assertEquals(List.of(NINTH_VISIT, TENTH_VISIT),
+                typicalVisitBook.getVisitsBetween(LocalDate.parse("2020-09-14"), LocalDate.parse("2020-09-24")));
+        assertEquals(List.of(FIFTH_VISIT, SIXTH_VISIT, SEVENTH_VISIT, EIGHTH_VISIT),
+                typicalVisitBook.getVisitsBetween(LocalDate.parse("2020-09-13"), LocalDate.parse("2020-09-13")));
+        assertEquals(Collections.emptyList(),
+                typicalVisitBook.getVisitsBetween(LocalDate.parse("2020-09-25"), LocalDate.parse("2020-09-12")));
+    }
+
+    @Test
+    public void deleteVisitsOnOrBefore_typicalVisitBook_removesPrefixInSingleChange() {
+        VisitBook typicalVisitBook = getTypicalVisitBook();
+        typicalVisitBook.addVisit(TENTH_VISIT);
+        typicalVisitBook.addVisit(ELEVENTH_VISIT);
+        List<Visit> expectedRemaining = List.of(NINTH_VISIT, TENTH_VISIT, ELEVENTH_VISIT);
+        List<Visit> expectedDeleted = typicalVisitBook.getVisitsOnOrBefore(LocalDate.parse("2020-09-13"));
+        int[] numberOfChanges = {0};
+        typicalVisitBook.getVisitList().addListener((ListChangeListener<Visit>) change -> numberOfChanges[0]++);
+
+        List<Visit> deletedVisits = typicalVisitBook.deleteVisitsOnOrBefore(LocalDate.parse("2020-09-13"));
+
+        assertEquals(expectedDeleted, deletedVisits);
+        assertEquals(expectedRemaining, typicalVisitBook.getVisitList());
+        assertEquals(1, numberOfChanges[0]);
+        assertEquals(Collections.emptyList(), typicalVisitBook.getVisitsOnOrBefore(LocalDate.parse("2020-09-13")));
+        assertEquals(Collections.emptyList(), typicalVisitBook.deleteVisitsOnOrBefore(LocalDate.parse("2020-09-13")));
+    }
+
+    @Test
+    public void forEachVisit_typicalVisitBook_visitsDecodeToVisitList() {
+        VisitBook typicalVisitBook = getTypicalVisitBook();
+        ReadOnlyIdDictionary personIds = typicalVisitBook.getPersonIdDictionary();
+        ReadOnlyIdDictionary locationIds = typicalVisitBook.getLocationIdDictionary();
+        List<Visit> decodedVisits = new ArrayList<>();
+
+        typicalVisitBook.forEachVisit((personOrdinal, locationOrdinal, epochDay) -> decodedVisits.add(
+                new Visit(personIds.getId(personOrdinal), locationIds.getId(locationOrdinal),
+                        LocalDate.ofEpochDay(epochDay))));
+
+        assertEquals(typicalVisitBook.getVisitList(), decodedVisits);
+        assertEquals(IdDictionary.NO_ORDINAL, personIds.getOrdinal(ID_NOT_IN_TYPICAL_PERSON));
+    }
+
     @Test
     public void getVisitList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> visitBook.getVisitList().remove(0));
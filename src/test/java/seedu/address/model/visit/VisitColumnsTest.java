@@ -0,0 +1,60 @@
+package seedu.address.model.visit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class VisitColumnsTest {
+
+    private final VisitColumns columns = new VisitColumns();
+
+    @Test
+    public void add_beyondInitialCapacity_keepsAllVisits() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, columns.add(i, i + 1, i + 2));
+        }
+        assertEquals(100, columns.size());
+        assertEquals(99, columns.getPersonOrdinal(99));
+        assertEquals(100, columns.getLocationOrdinal(99));
+        assertEquals(101, columns.getEpochDay(99));
+        assertTrue(columns.matches(50, 50, 51, 52));
+        assertFalse(columns.matches(50, 50, 51, 53));
+    }
+
+    @Test
+    public void removeAll_someVisits_keepsRemainingVisitsInOrder() {
+        for (int i = 0; i < 5; i++) {
+            columns.add(i, i, i);
+        }
+        BitSet positions = new BitSet();
+        positions.set(0);
+        positions.set(3);
+
+        columns.removeAll(positions);
+
+        assertEquals(3, columns.size());
+        assertEquals(1, columns.getPersonOrdinal(0));
+        assertEquals(2, columns.getPersonOrdinal(1));
+        assertEquals(4, columns.getPersonOrdinal(2));
+    }
+
+    @Test
+    public void set_validPosition_replacesVisit() {
+        columns.add(1, 2, 3);
+        columns.set(0, 4, 5, 6);
+        assertTrue(columns.matches(0, 4, 5, 6));
+    }
+
+    @Test
+    public void getPersonOrdinal_invalidPosition_throwsIndexOutOfBoundsException() {
+        columns.add(1, 2, 3);
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getPersonOrdinal(1));
+        columns.clear();
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getPersonOrdinal(0));
+    }
+}
@@ -59,8 +59,8 @@ public class VisitTest {
     public void hashCode_success() {
         Visit visit = FIRST_VISIT;
         int hashCode = Objects.hash(
-                visit.getPerson(),
-                visit.getLocation(),
+                visit.getPersonId(),
+                visit.getLocationId(),
                 visit.getDate()
         );
 
@@ -1,7 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.AMY_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BOB_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -10,6 +17,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.attribute.Id;
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.visit.Visit;
 import seedu.address.model.visit.VisitBook;
 import seedu.address.testutil.TypicalVisits;
 
@@ -42,4 +53,49 @@ public class JsonSerializableVisitBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableVisitBook.MESSAGE_DUPLICATE_VISIT,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_typicalVisitsFileWithBooks_visitsShareIdsOfBooks() throws Exception {
+        JsonSerializableVisitBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_VISITS_FILE,
+                JsonSerializableVisitBook.class).get();
+        PersonBook personBook = getTypicalAddressBook();
+        personBook.addPerson(AMY);
+        personBook.addPerson(BOB);
+        LocationBook locationBook = getTypicalLocationBook();
+        locationBook.addLocation(AMY_LOCATION);
+        locationBook.addLocation(BOB_LOCATION);
+
+        VisitBook visitBookFromFile = dataFromFile.toModelType(personBook, locationBook);
+
+        assertEquals(TypicalVisits.getTypicalVisitBook(), visitBookFromFile);
+        for (Visit visit : visitBookFromFile.getVisitList()) {
+            assertSame(personBook.getPersonById(visit.getPersonId()).getId(), visit.getPersonId());
+            assertSame(locationBook.getLocationById(visit.getLocationId()).getId(), visit.getLocationId());
+        }
+    }
+
+    @Test
+    public void toModelType_unknownPersonId_throwsIllegalValueException() throws Exception {
+        JsonSerializableVisitBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_VISITS_FILE,
+                JsonSerializableVisitBook.class).get();
+        LocationBook locationBook = getTypicalLocationBook();
+        locationBook.addLocation(AMY_LOCATION);
+        locationBook.addLocation(BOB_LOCATION);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableVisitBook.MESSAGE_UNKNOWN_PERSON_ID, AMY.getId()), () ->
+                        dataFromFile.toModelType(getTypicalAddressBook(), locationBook));
+    }
+
+    @Test
+    public void toModelType_unknownLocationId_throwsIllegalValueException() throws Exception {
+        JsonSerializableVisitBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_VISITS_FILE,
+                JsonSerializableVisitBook.class).get();
+        PersonBook personBook = getTypicalAddressBook();
+        personBook.addPerson(AMY);
+        personBook.addPerson(BOB);
+        Id firstLocationId = TypicalVisits.getTypicalVisitBook().getVisitList().get(0).getLocationId();
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableVisitBook.MESSAGE_UNKNOWN_LOCATION_ID, firstLocationId), () ->
+                        dataFromFile.toModelType(personBook, new LocationBook()));
+    }
 }
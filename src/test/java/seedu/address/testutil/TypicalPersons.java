@@ -17,7 +17,6 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_QUARANTINE_STAT
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 
 import seedu.address.model.attribute.Id;
@@ -74,10 +73,6 @@ public class TypicalPersons {
             .withQuarantineStatus(VALID_QUARANTINE_STATUS_BOB)
             .withId(VALID_ID_BOB).build();
 
-    // HashSet of Indexes corresponding to typical persons (ALICE to GEORGE)
-    public static final List<Id> ID_LIST_OF_TYPICAL_PERSONS = Arrays.asList(new Id("S1234"),
-            new Id("S2345"), new Id("S3456"), new Id("S4567"), new Id("S5678"), new Id("S6789"), new Id("S78910"));
-    public static final HashSet<Id> ID_HASHSET_OF_TYPICAL_PERSONS = new HashSet<>(ID_LIST_OF_TYPICAL_PERSONS);
     public static final String KEYWORD_MATCHING_MEIER = "Meier"; // A keyword that matches MEIER
 
     // Persons with specific properties
@@ -111,8 +106,4 @@ public class TypicalPersons {
     public static List<Person> getShortenedTypicalPersons() {
         return new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL));
     }
-
-    public static HashSet<Id> getIdsOfTypicalPersonsAsHashSet() {
-        return ID_HASHSET_OF_TYPICAL_PERSONS;
-    }
 }
@@ -51,8 +51,8 @@ public class TypicalVisitParametersContainers {
     }
 
     private static DataGenerator.VisitParametersContainer getVisitAsVpc(Visit visit) {
-        Id personId = visit.getPerson().getId();
-        Id locationId = visit.getLocation().getId();
+        Id personId = visit.getPersonId();
+        Id locationId = visit.getLocationId();
         LocalDate date = visit.getDate();
         return new DataGenerator.VisitParametersContainer(personId, locationId, date);
     }
@@ -26,7 +26,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import seedu.address.model.attribute.Id;
 import seedu.address.model.visit.Visit;
 import seedu.address.model.visit.VisitBook;
 
@@ -145,14 +144,6 @@ public class TypicalVisits {
         return new ArrayList<>(Arrays.asList(SECOND_VISIT, SECOND_VISIT, FOURTH_VISIT, FIFTH_VISIT, THIRD_VISIT));
     }
 
-    /**
-     * Returns a list of unique {@code LocationId} in the list of {@code Visit} provided
-     * by {@code getVisitsForTest}
-     */
-    public static List<Id> getLocationsIdsFromVisitsForTest() {
-        return new ArrayList<>(Arrays.asList(new Id("L9101112"), new Id("L10111213"), new Id("L3456")));
-    }
-
     /**
      * Returns a list of {@code Visit} where less than 60% of the Visits in this list consist of Person
      * that is infected
@@ -31,16 +31,16 @@ public class VisitBuilder {
         DEFAULT_DATE = LocalDate.parse(DEFAULT_DATE_STRING, inputFormat);
     }
 
-    private Person person;
-    private Location location;
+    private Id personId;
+    private Id locationId;
     private LocalDate dateOfVisit;
 
     /**
      * Creates a {@code VisitBuilder} with the default details.
      */
     public VisitBuilder() {
-        person = DEFAULT_PERSON;
-        location = DEFAULT_LOCATION;
+        personId = DEFAULT_PERSON_ID;
+        locationId = DEFAULT_LOCATION_ID;
         dateOfVisit = DEFAULT_DATE;
     }
 
@@ -48,8 +48,8 @@ public class VisitBuilder {
      * Initializes the VisitBuilder with the data of {@code visitToCopy}.
      */
     public VisitBuilder(Visit visitToCopy) {
-        person = visitToCopy.getPerson();
-        location = visitToCopy.getLocation();
+        personId = visitToCopy.getPersonId();
+        locationId = visitToCopy.getLocationId();
         dateOfVisit = visitToCopy.getDate();
     }
 
@@ -57,7 +57,7 @@ public class VisitBuilder {
      * Sets the {@code person} of the {@code Visit} that we are building.
      */
     public VisitBuilder withPerson(Person person) {
-        this.person = person;
+        this.personId = person.getId();
         return this;
     }
 
@@ -65,7 +65,7 @@ public class VisitBuilder {
      * Sets the {@code location} of the {@code Visit} that we are building.
      */
     public VisitBuilder withLocation(Location location) {
-        this.location = location;
+        this.locationId = location.getId();
         return this;
     }
 
@@ -80,6 +80,6 @@ public class VisitBuilder {
 
 
     public Visit build() {
-        return new Visit(person, location, dateOfVisit);
+        return new Visit(personId, locationId, dateOfVisit);
     }
 }
@@ -23,8 +23,8 @@ public class VisitUtil {
      */
     public static String getVisitDetails(Visit visit) {
         StringBuilder sb = new StringBuilder();
-        sb.append(PREFIX_PERSON_ID + visit.getPerson().getId().value + " ");
-        sb.append(PREFIX_LOCATION_ID + visit.getLocation().getId().value + " ");
+        sb.append(PREFIX_PERSON_ID + visit.getPersonId().value + " ");
+        sb.append(PREFIX_LOCATION_ID + visit.getLocationId().value + " ");
         sb.append(PREFIX_DATE + visit.getDate().toString() + " ");
         return sb.toString();
     }